@@ -205,6 +205,24 @@ public final class Ansi {
    * @return The transformed string.
    */
   public static String toHtml(final CharSequence str) {
+    final Instrumentation.Listener listener = Instrumentation.getListener();
+    if (listener == null)
+      return toHtml0(str, null);
+
+    listener.onBegin(Instrumentation.Source.HTML);
+    try {
+      return toHtml0(str, listener);
+    }
+    catch (final RuntimeException | Error e) {
+      listener.onAbort(Instrumentation.Source.HTML);
+      throw e;
+    }
+  }
+
+  private static String toHtml0(final CharSequence str, final Instrumentation.Listener listener) {
+    final long start = listener == null ? 0 : System.nanoTime();
+    int escapes = 0;
+    int lines = 0;
     final StringBuilder builder = new StringBuilder();
     char ch0, ch1 = Character.MAX_VALUE;
     int strength = Integer.MIN_VALUE;
@@ -238,6 +256,7 @@ public final class Ansi {
         group = Integer.MIN_VALUE;
         intensity = null;
         color = null;
+        ++escapes;
       }
       else if (group == Integer.MAX_VALUE) {
         group = ch0 - '0';
@@ -258,10 +277,20 @@ public final class Ansi {
       }
       else {
         builder.append(ch0);
+        if (ch0 == '\n')
+          ++lines;
       }
     }
 
-    return builder.toString();
+    final String html = builder.toString();
+    if (listener != null) {
+      if (html.length() > 0 && html.charAt(html.length() - 1) != '\n')
+        ++lines;
+
+      listener.onRender(Instrumentation.Source.HTML, 0, lines, escapes, html.length(), 0, 0, System.nanoTime() - start);
+    }
+
+    return html;
   }
 
   private static String apply0(final String str, Intensity intensity, Color color) {
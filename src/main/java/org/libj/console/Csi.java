@@ -0,0 +1,680 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+/**
+ * Utility functions that write ANSI control sequences for the cursor and the screen, such as cursor positioning, erasure, scroll
+ * regions, and the visibility of the cursor, into a {@code byte[]} or {@code char[]} buffer provided by the caller. Each function
+ * writes its sequence at the specified offset, and returns the offset following the sequence. Integer parameters are formatted in
+ * place, and sequences without parameters are copied from precomputed arrays, so that writing sequences allocates nothing.
+ * <p>
+ * Rows and columns are 1-based, as per the terminal. The buffer must have room for the sequence, which is at most
+ * {@link #MAX_LENGTH} long.
+ */
+public final class Csi {
+  /** The maximum length of a sequence written by this class */
+  public static final int MAX_LENGTH = 24;
+
+  /**
+   * Enum of the extents of erasure.
+   */
+  public enum Erase {
+    /** From the cursor to the end of the line or screen */
+    TO_END('0'),
+    /** From the start of the line or screen to the cursor */
+    TO_START('1'),
+    /** The whole line or screen */
+    ALL('2');
+
+    private final byte[] line;
+    private final byte[] screen;
+
+    Erase(final char code) {
+      this.line = sequence("\033[" + code + "K");
+      this.screen = sequence("\033[" + code + "J");
+    }
+  }
+
+  private static final byte[] HOME = sequence("\033[H");
+  private static final byte[] RESET_SCROLL_REGION = sequence("\033[r");
+  private static final byte[] HIDE_CURSOR = sequence("\033[?25l");
+  private static final byte[] SHOW_CURSOR = sequence("\033[?25h");
+  private static final byte[] SAVE_CURSOR = sequence("\0337");
+  private static final byte[] RESTORE_CURSOR = sequence("\0338");
+  private static final byte[] ENTER_ALTERNATE_SCREEN = sequence("\033[?1049h");
+  private static final byte[] EXIT_ALTERNATE_SCREEN = sequence("\033[?1049l");
+
+  private static byte[] sequence(final String str) {
+    final byte[] bytes = new byte[str.length()];
+    for (int i = 0; i < bytes.length; ++i) // [A]
+      bytes[i] = (byte)str.charAt(i);
+
+    return bytes;
+  }
+
+  private static int copy(final byte[] sequence, final byte[] buf, final int off) {
+    System.arraycopy(sequence, 0, buf, off, sequence.length);
+    return off + sequence.length;
+  }
+
+  private static int copy(final byte[] sequence, final char[] buf, final int off) {
+    for (int i = 0; i < sequence.length; ++i) // [A]
+      buf[off + i] = (char)sequence[i];
+
+    return off + sequence.length;
+  }
+
+  private static int checkPositive(final String name, final int value) {
+    if (value < 1)
+      throw new IllegalArgumentException(name + " (" + value + ") < 1");
+
+    return value;
+  }
+
+  private static int checkNonNegative(final String name, final int value) {
+    if (value < 0)
+      throw new IllegalArgumentException(name + " (" + value + ") < 0");
+
+    return value;
+  }
+
+  /**
+   * Returns the number of decimal digits of the specified non-negative value.
+   */
+  private static int digits(final int value) {
+    int digits = 1;
+    for (long limit = 10; limit <= value; limit *= 10) // [N]
+      ++digits;
+
+    return digits;
+  }
+
+  private static int format(final int value, final byte[] buf, final int off) {
+    final int end = off + digits(value);
+    for (int i = end - 1, v = value; i >= off; --i, v /= 10) // [N]
+      buf[i] = (byte)('0' + v % 10);
+
+    return end;
+  }
+
+  private static int format(final int value, final char[] buf, final int off) {
+    final int end = off + digits(value);
+    for (int i = end - 1, v = value; i >= off; --i, v /= 10) // [N]
+      buf[i] = (char)('0' + v % 10);
+
+    return end;
+  }
+
+  /**
+   * Writes {@code ESC [ p1 ; p2 fin}, or {@code ESC [ p1 fin} if {@code p2} is negative.
+   */
+  private static int csi(final byte[] buf, final int off, final int p1, final int p2, final char fin) {
+    buf[off] = '\033';
+    buf[off + 1] = '[';
+    int i = format(p1, buf, off + 2);
+    if (p2 >= 0) {
+      buf[i] = ';';
+      i = format(p2, buf, i + 1);
+    }
+
+    buf[i] = (byte)fin;
+    return i + 1;
+  }
+
+  private static int csi(final char[] buf, final int off, final int p1, final int p2, final char fin) {
+    buf[off] = '\033';
+    buf[off + 1] = '[';
+    int i = format(p1, buf, off + 2);
+    if (p2 >= 0) {
+      buf[i] = ';';
+      i = format(p2, buf, i + 1);
+    }
+
+    buf[i] = fin;
+    return i + 1;
+  }
+
+  /**
+   * Writes {@code ESC [ n fin}, or {@code ESC [ fin} if {@code n} is 1, or nothing if {@code n} is 0.
+   */
+  private static int move(final byte[] buf, final int off, final String name, final int n, final char fin) {
+    if (checkNonNegative(name, n) == 0)
+      return off;
+
+    if (n != 1)
+      return csi(buf, off, n, -1, fin);
+
+    buf[off] = '\033';
+    buf[off + 1] = '[';
+    buf[off + 2] = (byte)fin;
+    return off + 3;
+  }
+
+  private static int move(final char[] buf, final int off, final String name, final int n, final char fin) {
+    if (checkNonNegative(name, n) == 0)
+      return off;
+
+    if (n != 1)
+      return csi(buf, off, n, -1, fin);
+
+    buf[off] = '\033';
+    buf[off + 1] = '[';
+    buf[off + 2] = fin;
+    return off + 3;
+  }
+
+  /**
+   * Writes the sequence that moves the cursor to the specified row and column.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param row The 1-based row.
+   * @param col The 1-based column.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code row} or {@code col} is less than 1.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int moveTo(final byte[] buf, final int off, final int row, final int col) {
+    checkPositive("row", row);
+    checkPositive("col", col);
+    return row == 1 && col == 1 ? copy(HOME, buf, off) : csi(buf, off, row, col, 'H');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor to the specified row and column.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param row The 1-based row.
+   * @param col The 1-based column.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code row} or {@code col} is less than 1.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int moveTo(final char[] buf, final int off, final int row, final int col) {
+    checkPositive("row", row);
+    checkPositive("col", col);
+    return row == 1 && col == 1 ? copy(HOME, buf, off) : csi(buf, off, row, col, 'H');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor to the specified column of its row.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param col The 1-based column.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code col} is less than 1.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int column(final byte[] buf, final int off, final int col) {
+    return csi(buf, off, checkPositive("col", col), -1, 'G');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor to the specified column of its row.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param col The 1-based column.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code col} is less than 1.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int column(final char[] buf, final int off, final int col) {
+    return csi(buf, off, checkPositive("col", col), -1, 'G');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor up by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int up(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'A');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor up by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int up(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'A');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor down by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int down(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'B');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor down by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int down(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'B');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor forward by {@code n} columns, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of columns.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int forward(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'C');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor forward by {@code n} columns, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of columns.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int forward(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'C');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor back by {@code n} columns, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of columns.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int back(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'D');
+  }
+
+  /**
+   * Writes the sequence that moves the cursor back by {@code n} columns, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of columns.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int back(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'D');
+  }
+
+  /**
+   * Writes the sequence that erases the specified extent of the line of the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param erase The {@link Erase extent} of erasure.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} or {@code erase} is null.
+   */
+  public static int eraseLine(final byte[] buf, final int off, final Erase erase) {
+    return copy(erase.line, buf, off);
+  }
+
+  /**
+   * Writes the sequence that erases the specified extent of the line of the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param erase The {@link Erase extent} of erasure.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} or {@code erase} is null.
+   */
+  public static int eraseLine(final char[] buf, final int off, final Erase erase) {
+    return copy(erase.line, buf, off);
+  }
+
+  /**
+   * Writes the sequence that erases the specified extent of the screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param erase The {@link Erase extent} of erasure.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} or {@code erase} is null.
+   */
+  public static int eraseScreen(final byte[] buf, final int off, final Erase erase) {
+    return copy(erase.screen, buf, off);
+  }
+
+  /**
+   * Writes the sequence that erases the specified extent of the screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param erase The {@link Erase extent} of erasure.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} or {@code erase} is null.
+   */
+  public static int eraseScreen(final char[] buf, final int off, final Erase erase) {
+    return copy(erase.screen, buf, off);
+  }
+
+  /**
+   * Writes the sequence that restricts scrolling to the rows from {@code top} to {@code bottom}, inclusive.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param top The 1-based first row of the region.
+   * @param bottom The 1-based last row of the region.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code top} is less than 1, or {@code bottom} is less than {@code top}.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollRegion(final byte[] buf, final int off, final int top, final int bottom) {
+    if (bottom < checkPositive("top", top))
+      throw new IllegalArgumentException("bottom (" + bottom + ") < top (" + top + ")");
+
+    return csi(buf, off, top, bottom, 'r');
+  }
+
+  /**
+   * Writes the sequence that restricts scrolling to the rows from {@code top} to {@code bottom}, inclusive.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param top The 1-based first row of the region.
+   * @param bottom The 1-based last row of the region.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code top} is less than 1, or {@code bottom} is less than {@code top}.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollRegion(final char[] buf, final int off, final int top, final int bottom) {
+    if (bottom < checkPositive("top", top))
+      throw new IllegalArgumentException("bottom (" + bottom + ") < top (" + top + ")");
+
+    return csi(buf, off, top, bottom, 'r');
+  }
+
+  /**
+   * Writes the sequence that restores scrolling to the whole screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int resetScrollRegion(final byte[] buf, final int off) {
+    return copy(RESET_SCROLL_REGION, buf, off);
+  }
+
+  /**
+   * Writes the sequence that restores scrolling to the whole screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int resetScrollRegion(final char[] buf, final int off) {
+    return copy(RESET_SCROLL_REGION, buf, off);
+  }
+
+  /**
+   * Writes the sequence that scrolls the scroll region up by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollUp(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'S');
+  }
+
+  /**
+   * Writes the sequence that scrolls the scroll region up by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollUp(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'S');
+  }
+
+  /**
+   * Writes the sequence that scrolls the scroll region down by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollDown(final byte[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'T');
+  }
+
+  /**
+   * Writes the sequence that scrolls the scroll region down by {@code n} rows, or nothing if {@code n} is 0.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param n The number of rows.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws IllegalArgumentException If {@code n} is negative.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int scrollDown(final char[] buf, final int off, final int n) {
+    return move(buf, off, "n", n, 'T');
+  }
+
+  /**
+   * Writes the sequence that hides the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int hideCursor(final byte[] buf, final int off) {
+    return copy(HIDE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that hides the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int hideCursor(final char[] buf, final int off) {
+    return copy(HIDE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that shows the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int showCursor(final byte[] buf, final int off) {
+    return copy(SHOW_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that shows the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int showCursor(final char[] buf, final int off) {
+    return copy(SHOW_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that saves the position of the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int saveCursor(final byte[] buf, final int off) {
+    return copy(SAVE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that saves the position of the cursor.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int saveCursor(final char[] buf, final int off) {
+    return copy(SAVE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that restores the position of the cursor that was last saved.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int restoreCursor(final byte[] buf, final int off) {
+    return copy(RESTORE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that restores the position of the cursor that was last saved.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int restoreCursor(final char[] buf, final int off) {
+    return copy(RESTORE_CURSOR, buf, off);
+  }
+
+  /**
+   * Writes the sequence that switches to the alternate screen, or back to the main screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param alternate Whether to switch to the alternate screen, or back to the main screen.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int alternateScreen(final byte[] buf, final int off, final boolean alternate) {
+    return copy(alternate ? ENTER_ALTERNATE_SCREEN : EXIT_ALTERNATE_SCREEN, buf, off);
+  }
+
+  /**
+   * Writes the sequence that switches to the alternate screen, or back to the main screen.
+   *
+   * @param buf The buffer to write to.
+   * @param off The offset in {@code buf} at which to write.
+   * @param alternate Whether to switch to the alternate screen, or back to the main screen.
+   * @return The offset in {@code buf} following the sequence.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room for the sequence at {@code off}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int alternateScreen(final char[] buf, final int off, final boolean alternate) {
+    return copy(alternate ? ENTER_ALTERNATE_SCREEN : EXIT_ALTERNATE_SCREEN, buf, off);
+  }
+
+  private Csi() {
+  }
+}
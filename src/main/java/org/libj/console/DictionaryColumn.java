@@ -0,0 +1,207 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.util.HashMap;
+
+/**
+ * A dictionary-encoded column of a table, made of a heading, a dictionary of distinct values, and a code per row that is the index of
+ * the value of the row in the dictionary. Codes are held in a {@code byte[]} (as unsigned values) for dictionaries of up to 256
+ * values, or in an {@code int[]} otherwise. Dictionary-encoded columns of low-cardinality data, such as regions, statuses or levels,
+ * hold a single {@link String} per distinct value, and are rendered by {@link Tables#printTable(boolean,org.libj.lang.Strings.Align,org.libj.lang.Strings.Align,DictionaryColumn...)}
+ * by measuring and padding each distinct value once.
+ */
+public final class DictionaryColumn {
+  private final String heading;
+  private final String[] values;
+  private final byte[] bytes;
+  private final int[] ints;
+
+  private static void checkCode(final int i, final int code, final int cardinality) {
+    if (code < 0)
+      throw new IllegalArgumentException("codes[" + i + "] (" + code + ") < 0");
+
+    if (code >= cardinality)
+      throw new IllegalArgumentException("codes[" + i + "] (" + code + ") >= values.length (" + cardinality + ")");
+  }
+
+  /**
+   * Returns a new {@link DictionaryColumn} with the specified heading and the values of the provided cells, which are encoded with
+   * {@code byte} codes if there are no more than 256 distinct values, and with {@code int} codes otherwise.
+   *
+   * @param heading The heading.
+   * @param cells The values of the rows.
+   * @return A new {@link DictionaryColumn} with the specified heading and the values of the provided cells.
+   * @throws NullPointerException If {@code cells} is null.
+   */
+  public static DictionaryColumn of(final String heading, final String ... cells) {
+    final HashMap<String,Integer> codes = new HashMap<>();
+    final int[] ints = new int[cells.length];
+    for (int i = 0, i$ = cells.length; i < i$; ++i) { // [A]
+      final Integer code = codes.get(cells[i]);
+      if (code != null) {
+        ints[i] = code;
+      }
+      else {
+        ints[i] = codes.size();
+        codes.put(cells[i], ints[i]);
+      }
+    }
+
+    final String[] values = new String[codes.size()];
+    for (int i = 0, i$ = cells.length; i < i$; ++i) // [A]
+      values[ints[i]] = cells[i];
+
+    if (values.length > 256)
+      return new DictionaryColumn(heading, values, null, ints);
+
+    final byte[] bytes = new byte[ints.length];
+    for (int i = 0, i$ = ints.length; i < i$; ++i) // [A]
+      bytes[i] = (byte)ints[i];
+
+    return new DictionaryColumn(heading, values, bytes, null);
+  }
+
+  private DictionaryColumn(final String heading, final String[] values, final byte[] bytes, final int[] ints) {
+    this.heading = heading;
+    this.values = values;
+    this.bytes = bytes;
+    this.ints = ints;
+  }
+
+  /**
+   * Creates a new {@link DictionaryColumn} with the specified heading, dictionary of values, and {@code byte} codes, which are
+   * interpreted as unsigned values. The arrays are copied, so later changes to them do not affect the column.
+   *
+   * @param heading The heading.
+   * @param values The dictionary of values, of which {@code null} values are rendered as empty cells.
+   * @param codes The index in {@code values} of the value of each row.
+   * @throws IllegalArgumentException If a code is not an index in {@code values}.
+   * @throws NullPointerException If {@code values} or {@code codes} is null.
+   */
+  public DictionaryColumn(final String heading, final String[] values, final byte[] codes) {
+    this(heading, values.clone(), codes.clone(), null);
+    for (int i = 0, i$ = bytes.length; i < i$; ++i) // [A]
+      checkCode(i, bytes[i] & 0xFF, this.values.length);
+  }
+
+  /**
+   * Creates a new {@link DictionaryColumn} with the specified heading, dictionary of values, and {@code int} codes. The arrays are
+   * copied, so later changes to them do not affect the column.
+   *
+   * @param heading The heading.
+   * @param values The dictionary of values, of which {@code null} values are rendered as empty cells.
+   * @param codes The index in {@code values} of the value of each row.
+   * @throws IllegalArgumentException If a code is not an index in {@code values}.
+   * @throws NullPointerException If {@code values} or {@code codes} is null.
+   */
+  public DictionaryColumn(final String heading, final String[] values, final int[] codes) {
+    this(heading, values.clone(), null, codes.clone());
+    for (int i = 0, i$ = ints.length; i < i$; ++i) // [A]
+      checkCode(i, ints[i], this.values.length);
+  }
+
+  /**
+   * Returns the heading.
+   *
+   * @return The heading.
+   */
+  public String getHeading() {
+    return heading;
+  }
+
+  /**
+   * Returns the number of distinct values in the dictionary.
+   *
+   * @return The number of distinct values in the dictionary.
+   */
+  public int getCardinality() {
+    return values.length;
+  }
+
+  /**
+   * Returns the value of the dictionary at the specified index.
+   *
+   * @param index The index of the value in the dictionary.
+   * @return The value of the dictionary at the specified index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is out of range.
+   */
+  public String getValue(final int index) {
+    return values[index];
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  public int size() {
+    return bytes != null ? bytes.length : ints.length;
+  }
+
+  /**
+   * Returns the dictionary code of the specified row.
+   *
+   * @param row The index of the row.
+   * @return The dictionary code of the specified row.
+   * @throws ArrayIndexOutOfBoundsException If {@code row} is out of range.
+   */
+  public int code(final int row) {
+    return bytes != null ? bytes[row] & 0xFF : ints[row];
+  }
+
+  /**
+   * Returns the value of the specified row.
+   *
+   * @param row The index of the row.
+   * @return The value of the specified row.
+   * @throws ArrayIndexOutOfBoundsException If {@code row} is out of range.
+   */
+  public String get(final int row) {
+    return values[code(row)];
+  }
+
+  /**
+   * Returns whether each value of the dictionary is the value of at least 1 row.
+   *
+   * @return An array of whether each value of the dictionary is the value of at least 1 row.
+   */
+  boolean[] used() {
+    final boolean[] used = new boolean[values.length];
+    int remaining = values.length;
+    if (bytes != null) {
+      for (int i = 0, i$ = bytes.length; i < i$ && remaining > 0; ++i) { // [A]
+        final int code = bytes[i] & 0xFF;
+        if (!used[code]) {
+          used[code] = true;
+          --remaining;
+        }
+      }
+    }
+    else {
+      for (int i = 0, i$ = ints.length; i < i$ && remaining > 0; ++i) { // [A]
+        final int code = ints[i];
+        if (!used[code]) {
+          used[code] = true;
+          --remaining;
+        }
+      }
+    }
+
+    return used;
+  }
+}
@@ -0,0 +1,184 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.util.Arrays;
+
+/**
+ * Utility functions that measure the number of columns occupied by text on a terminal. ANSI escape sequences occupy no columns, East
+ * Asian wide and fullwidth code points (including most emoji) occupy 2 columns, combining marks, format characters and control
+ * characters occupy no columns, and all other code points occupy 1 column. Code points are measured individually, so sequences joined
+ * with {@code U+200D} measure as the sum of their parts.
+ * <p>
+ * The widths of the code points of planes 0 to 3 are looked up in a 2-level table of 2-bit widths, in which the blocks of 256 code
+ * points are shared between blocks of the same widths. {@link #cached(String)} additionally caches the widths of strings in a bounded
+ * table, so that measuring a repeated value costs a hash lookup. The cache is safe for use by concurrent threads.
+ */
+public final class DisplayWidth {
+  private static final int[] WIDE = {
+    0x1100, 0x115F, 0x231A, 0x231B, 0x2329, 0x232A, 0x23E9, 0x23EC, 0x23F0, 0x23F0, 0x23F3, 0x23F3, 0x25FD, 0x25FE, 0x2614, 0x2615,
+    0x2648, 0x2653, 0x267F, 0x267F, 0x2693, 0x2693, 0x26A1, 0x26A1, 0x26AA, 0x26AB, 0x26BD, 0x26BE, 0x26C4, 0x26C5, 0x26CE, 0x26CE,
+    0x26D4, 0x26D4, 0x26EA, 0x26EA, 0x26F2, 0x26F3, 0x26F5, 0x26F5, 0x26FA, 0x26FA, 0x26FD, 0x26FD, 0x2705, 0x2705, 0x270A, 0x270B,
+    0x2728, 0x2728, 0x274C, 0x274C, 0x274E, 0x274E, 0x2753, 0x2755, 0x2757, 0x2757, 0x2795, 0x2797, 0x27B0, 0x27B0, 0x27BF, 0x27BF,
+    0x2B1B, 0x2B1C, 0x2B50, 0x2B50, 0x2B55, 0x2B55, 0x2E80, 0x303E, 0x3041, 0x33FF, 0x3400, 0x4DBF, 0x4E00, 0x9FFF, 0xA000, 0xA4CF,
+    0xA960, 0xA97F, 0xAC00, 0xD7A3, 0xF900, 0xFAFF, 0xFE10, 0xFE19, 0xFE30, 0xFE6F, 0xFF00, 0xFF60, 0xFFE0, 0xFFE6, 0x16FE0, 0x16FE4,
+    0x17000, 0x18CFF, 0x1B000, 0x1B2FF, 0x1F004, 0x1F004, 0x1F0CF, 0x1F0CF, 0x1F18E, 0x1F18E, 0x1F191, 0x1F19A, 0x1F200, 0x1F202,
+    0x1F210, 0x1F23B, 0x1F240, 0x1F248, 0x1F250, 0x1F251, 0x1F260, 0x1F265, 0x1F300, 0x1F320, 0x1F32D, 0x1F335, 0x1F337, 0x1F37C,
+    0x1F37E, 0x1F393, 0x1F3A0, 0x1F3CA, 0x1F3CF, 0x1F3D3, 0x1F3E0, 0x1F3F0, 0x1F3F4, 0x1F3F4, 0x1F3F8, 0x1F43E, 0x1F440, 0x1F440,
+    0x1F442, 0x1F4FC, 0x1F4FF, 0x1F53D, 0x1F54B, 0x1F54E, 0x1F550, 0x1F567, 0x1F57A, 0x1F57A, 0x1F595, 0x1F596, 0x1F5A4, 0x1F5A4,
+    0x1F5FB, 0x1F64F, 0x1F680, 0x1F6C5, 0x1F6CC, 0x1F6CC, 0x1F6D0, 0x1F6D2, 0x1F6D5, 0x1F6D7, 0x1F6DC, 0x1F6DF, 0x1F6EB, 0x1F6EC,
+    0x1F6F4, 0x1F6FC, 0x1F7E0, 0x1F7EB, 0x1F7F0, 0x1F7F0, 0x1F90C, 0x1F93A, 0x1F93C, 0x1F945, 0x1F947, 0x1F9FF, 0x1FA70, 0x1FA7C,
+    0x1FA80, 0x1FA88, 0x1FA90, 0x1FABD, 0x1FABF, 0x1FAC5, 0x1FACE, 0x1FADB, 0x1FAE0, 0x1FAE8, 0x1FAF0, 0x1FAF8, 0x20000, 0x2FFFD,
+    0x30000, 0x3FFFD
+  };
+
+  /** The number of code points covered by the table */
+  private static final int TABLE_SIZE = 0x40000;
+  /** Index of the block of each 256 code points */
+  private static final short[] index = new short[TABLE_SIZE >>> 8];
+  /** Distinct blocks of 2-bit widths of 256 code points */
+  private static final long[][] blocks;
+
+  private static final int CACHE_SIZE = 1024;
+  private static final int MAX_CACHED_LENGTH = 1024;
+  private static final Entry[] cache = new Entry[CACHE_SIZE];
+
+  private static final class Entry {
+    private final String key;
+    private final int width;
+
+    private Entry(final String key, final int width) {
+      this.key = key;
+      this.width = width;
+    }
+  }
+
+  static {
+    final long[][] distinct = new long[index.length][];
+    int size = 0;
+    final long[] block = new long[8];
+    for (int b = 0, w = 0; b < index.length; ++b) { // [A]
+      Arrays.fill(block, 0);
+      for (int i = 0; i < 256; ++i) { // [N]
+        final int cp = b << 8 | i;
+        while (w < WIDE.length && WIDE[w + 1] < cp)
+          w += 2;
+
+        final long width = w < WIDE.length && WIDE[w] <= cp ? 2 : isZeroWidth(cp) ? 0 : 1;
+        block[i >>> 5] |= width << ((i & 31) << 1);
+      }
+
+      int d = 0;
+      while (d < size && !Arrays.equals(distinct[d], block))
+        ++d;
+
+      if (d == size)
+        distinct[size++] = block.clone();
+
+      index[b] = (short)d;
+    }
+
+    blocks = Arrays.copyOf(distinct, size);
+  }
+
+  private static boolean isZeroWidth(final int cp) {
+    if (cp < 0x20 || 0x7F <= cp && cp < 0xA0 || 0x1160 <= cp && cp <= 0x11FF || cp == 0x200B)
+      return true;
+
+    if (cp == 0xAD)
+      return false;
+
+    final int type = Character.getType(cp);
+    return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.FORMAT;
+  }
+
+  /**
+   * Returns the number of columns occupied by the specified code point: 0, 1 or 2.
+   *
+   * @param codePoint The code point.
+   * @return The number of columns occupied by the specified code point.
+   */
+  public static int of(final int codePoint) {
+    if (codePoint < 0x7F)
+      return codePoint < 0x20 ? 0 : 1;
+
+    if (codePoint < TABLE_SIZE)
+      return (int)(blocks[index[codePoint >>> 8]][(codePoint >>> 5) & 7] >>> ((codePoint & 31) << 1)) & 3;
+
+    return codePoint <= Character.MAX_CODE_POINT && isZeroWidth(codePoint) ? 0 : 1;
+  }
+
+  /**
+   * Returns the number of columns occupied by the specified text, skipping ANSI escape sequences.
+   *
+   * @param str The text.
+   * @return The number of columns occupied by the specified text.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static int of(final CharSequence str) {
+    return measure(str);
+  }
+
+  /**
+   * Returns the number of columns occupied by the specified text, skipping ANSI escape sequences, as cached for equal strings. Strings
+   * longer than 1024 chars are not cached.
+   *
+   * @param str The text.
+   * @return The number of columns occupied by the specified text.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  public static int cached(final String str) {
+    if (str.length() > MAX_CACHED_LENGTH)
+      return measure(str);
+
+    final int hash = str.hashCode();
+    final int slot = (hash ^ hash >>> 16) & (CACHE_SIZE - 1);
+    Entry entry = cache[slot];
+    if (entry == null || !entry.key.equals(str))
+      cache[slot] = entry = new Entry(str, measure(str));
+
+    return entry.width;
+  }
+
+  private static int measure(final CharSequence str) {
+    int width = 0;
+    for (int i = 0, i$ = str.length(); i < i$; ++i) { // [N]
+      final char ch = str.charAt(i);
+      if (ch == '\033') {
+        if (++i < i$ && str.charAt(i) == '[') {
+          // Control Sequence: parameter and intermediate bytes, followed by a final byte
+          while (++i < i$) {
+            final char b = str.charAt(i);
+            if (b < 0x20 || b > 0x3F)
+              break;
+          }
+        }
+      }
+      else if (Character.isHighSurrogate(ch) && i + 1 < i$ && Character.isLowSurrogate(str.charAt(i + 1))) {
+        width += of(Character.toCodePoint(ch, str.charAt(++i)));
+      }
+      else {
+        width += ch < 0x7F ? (ch < 0x20 ? 0 : 1) : of(ch);
+      }
+    }
+
+    return width;
+  }
+
+  private DisplayWidth() {
+  }
+}
@@ -0,0 +1,232 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * An {@link Instrumentation.Listener} that commits a Java Flight Recorder event for each render, so that recordings attribute
+ * latency to specific table renders, HTML conversions and canvas frames:
+ * <ul>
+ * <li>{@code org.libj.console.TableRender} for {@link Tables#printTable},</li>
+ * <li>{@code org.libj.console.HtmlConversion} for {@link Ansi#toHtml(CharSequence)}, and</li>
+ * <li>{@code org.libj.console.CanvasFlush} for {@link org.libj.console.drawille.Canvas#render(java.io.OutputStream)}.</li>
+ * </ul>
+ * Each event spans its render, and carries its counters and the durations of its phases. The events are enabled by default with a
+ * threshold of 1 ms, which can be changed in the {@code .jfc} settings of a recording, and are recorded without stack traces. Renders
+ * that are shorter than the threshold, or whose event is disabled, cost the creation of an event that is discarded. Renders that throw
+ * commit no event.
+ * <p>
+ * This class requires the {@code jdk.jfr} module, which is present in JDK 11 and later, and in JDK 8u262 and later. It is loaded only
+ * when {@linkplain Instrumentation#setListener(Instrumentation.Listener) set as the listener}:
+ *
+ * <pre>
+ * Instrumentation.setListener(new FlightRecorderListener());
+ * </pre>
+ */
+public class FlightRecorderListener implements Instrumentation.Listener {
+  @Name("org.libj.console.TableRender")
+  @Label("Table Render")
+  @Description("Rendering of a table by Tables.printTable")
+  @Category({"LibJ", "Console"})
+  @StackTrace(false)
+  @Threshold("1 ms")
+  static final class TableRender extends Event {
+    @Label("Cells")
+    @Description("Number of cells measured")
+    long cells;
+
+    @Label("Rows")
+    @Description("Number of data rows emitted")
+    long rows;
+
+    @Label("Escapes")
+    @Description("Number of ANSI escape sequences in the cells")
+    long escapes;
+
+    @Label("Chars")
+    @Description("Number of chars of the table")
+    long chars;
+
+    @Label("Measure")
+    @Description("Duration of measuring the widths and heights of cells")
+    @Timespan
+    long measure;
+
+    @Label("Layout")
+    @Description("Duration of sizing and padding the columns")
+    @Timespan
+    long layout;
+
+    @Label("Emit")
+    @Description("Duration of emitting the borders, headings and data rows")
+    @Timespan
+    long emit;
+  }
+
+  @Name("org.libj.console.HtmlConversion")
+  @Label("HTML Conversion")
+  @Description("Conversion of ANSI escaped text to HTML by Ansi.toHtml")
+  @Category({"LibJ", "Console"})
+  @StackTrace(false)
+  @Threshold("1 ms")
+  static final class HtmlConversion extends Event {
+    @Label("Lines")
+    @Description("Number of lines converted")
+    long lines;
+
+    @Label("Escapes")
+    @Description("Number of ANSI escape sequences parsed")
+    long escapes;
+
+    @Label("Chars")
+    @Description("Number of chars of the HTML")
+    long chars;
+  }
+
+  @Name("org.libj.console.CanvasFlush")
+  @Label("Canvas Flush")
+  @Description("Rendering of a frame of a drawille Canvas to a stream")
+  @Category({"LibJ", "Console"})
+  @StackTrace(false)
+  @Threshold("1 ms")
+  static final class CanvasFlush extends Event {
+    @Label("Cells")
+    @Description("Number of braille characters rendered anew")
+    long cells;
+
+    @Label("Rows")
+    @Description("Number of rows of braille characters written")
+    long rows;
+
+    @Label("Escapes")
+    @Description("Number of ANSI escape sequences rendered anew")
+    long escapes;
+
+    @Label("Bytes")
+    @Description("Number of bytes written")
+    @DataAmount
+    long bytes;
+
+    @Label("Layout")
+    @Description("Duration of rendering the changed rows anew in parallel")
+    @Timespan
+    long layout;
+
+    @Label("Emit")
+    @Description("Duration of writing the rows, including rendering anew the changed rows that were not rendered in parallel")
+    @Timespan
+    long emit;
+  }
+
+  private final ThreadLocal<Event[]> events = ThreadLocal.withInitial(() -> new Event[Instrumentation.Source.values().length]);
+  private final Instrumentation.Listener next;
+
+  /**
+   * Creates a new {@link FlightRecorderListener} that forwards each render to the specified {@link Instrumentation.Listener} after
+   * committing its event.
+   *
+   * @param next The {@link Instrumentation.Listener} to which to forward each render, or {@code null} to forward to none.
+   */
+  public FlightRecorderListener(final Instrumentation.Listener next) {
+    this.next = next;
+  }
+
+  /**
+   * Creates a new {@link FlightRecorderListener}.
+   */
+  public FlightRecorderListener() {
+    this(null);
+  }
+
+  @Override
+  public void onBegin(final Instrumentation.Source source) {
+    final Event event;
+    if (source == Instrumentation.Source.TABLE)
+      event = new TableRender();
+    else if (source == Instrumentation.Source.HTML)
+      event = new HtmlConversion();
+    else
+      event = new CanvasFlush();
+
+    if (event.isEnabled()) {
+      event.begin();
+      events.get()[source.ordinal()] = event;
+    }
+
+    if (next != null)
+      next.onBegin(source);
+  }
+
+  @Override
+  public void onRender(final Instrumentation.Source source, final long cells, final long rows, final long escapes, final long output, final long measureNanos, final long layoutNanos, final long emitNanos) {
+    final Event[] pending = events.get();
+    final Event event = pending[source.ordinal()];
+    if (event != null) {
+      pending[source.ordinal()] = null;
+      event.end();
+      if (event.shouldCommit()) {
+        if (event instanceof TableRender) {
+          final TableRender table = (TableRender)event;
+          table.cells = cells;
+          table.rows = rows;
+          table.escapes = escapes;
+          table.chars = output;
+          table.measure = measureNanos;
+          table.layout = layoutNanos;
+          table.emit = emitNanos;
+        }
+        else if (event instanceof HtmlConversion) {
+          final HtmlConversion html = (HtmlConversion)event;
+          html.lines = rows;
+          html.escapes = escapes;
+          html.chars = output;
+        }
+        else {
+          final CanvasFlush canvas = (CanvasFlush)event;
+          canvas.cells = cells;
+          canvas.rows = rows;
+          canvas.escapes = escapes;
+          canvas.bytes = output;
+          canvas.layout = layoutNanos;
+          canvas.emit = emitNanos;
+        }
+
+        event.commit();
+      }
+    }
+
+    if (next != null)
+      next.onRender(source, cells, rows, escapes, output, measureNanos, layoutNanos, emitNanos);
+  }
+
+  @Override
+  public void onAbort(final Instrumentation.Source source) {
+    // The event of a render that threw is discarded, rather than committed with partial counters
+    events.get()[source.ordinal()] = null;
+    if (next != null)
+      next.onAbort(source);
+  }
+}
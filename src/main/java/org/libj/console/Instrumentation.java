@@ -0,0 +1,189 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the rendering of {@link Tables#printTable tables}, of {@link Ansi#toHtml(CharSequence) HTML conversion},
+ * and of {@link org.libj.console.drawille.Canvas#render(java.io.OutputStream) canvases}. Each render reports its counters and the
+ * nanoseconds of its phases to the {@link Listener} set with {@link #setListener(Listener)}. While no listener is set, the cost of
+ * instrumentation is a single volatile read per render.
+ */
+public final class Instrumentation {
+  /**
+   * Enum of the sources of renders.
+   */
+  public enum Source {
+    /** {@link Tables#printTable} */
+    TABLE,
+    /** {@link Ansi#toHtml(CharSequence)} */
+    HTML,
+    /** {@link org.libj.console.drawille.Canvas#render(java.io.OutputStream)} */
+    CANVAS
+  }
+
+  /**
+   * Enum of the metrics accumulated by {@link Counters}.
+   */
+  public enum Metric {
+    /** The number of renders. */
+    CALLS,
+    /** The number of cells measured by tables, or of braille characters rendered anew by canvases. */
+    CELLS,
+    /** The number of data rows of tables, lines of HTML, or rows of braille characters emitted. */
+    ROWS,
+    /** The number of ANSI escape sequences measured by tables, parsed by HTML conversion, or written by canvases. */
+    ESCAPES,
+    /** The size of the output, in chars for strings, and in bytes for streams. */
+    OUTPUT,
+    /** The nanoseconds spent measuring the widths and heights of the cells of tables. */
+    MEASURE_NANOS,
+    /** The nanoseconds spent sizing and padding the columns of tables, or rendering braille characters anew in parallel. */
+    LAYOUT_NANOS,
+    /** The nanoseconds spent emitting the output. */
+    EMIT_NANOS
+  }
+
+  /**
+   * Listener of renders.
+   */
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Called on the rendering thread upon the start of each render, before any of its phases. Renders of the same {@link Source} do
+     * not nest on a thread, so each call is followed by a call to either {@link #onRender}, if the render completes, or
+     * {@link #onAbort}, if it throws, for the same {@link Source} on the same thread.
+     *
+     * @param source The {@link Source} of the render.
+     */
+    default void onBegin(final Source source) {
+    }
+
+    /**
+     * Called on the rendering thread instead of {@link #onRender} if a render throws an exception or error, before it propagates to
+     * the caller.
+     *
+     * @param source The {@link Source} of the render.
+     */
+    default void onAbort(final Source source) {
+    }
+
+    /**
+     * Called on the rendering thread upon the completion of each render.
+     *
+     * @param source The {@link Source} of the render.
+     * @param cells The number of cells measured by tables, or of braille characters rendered anew by canvases.
+     * @param rows The number of data rows of tables, lines of HTML, or rows of braille characters emitted.
+     * @param escapes The number of ANSI escape sequences measured by tables, parsed by HTML conversion, or written by canvases.
+     * @param output The size of the output, in chars for strings, and in bytes for streams.
+     * @param measureNanos The nanoseconds spent measuring the widths and heights of the cells of tables.
+     * @param layoutNanos The nanoseconds spent sizing and padding the columns of tables, or rendering braille characters anew in
+     *          parallel.
+     * @param emitNanos The nanoseconds spent emitting the output.
+     */
+    void onRender(Source source, long cells, long rows, long escapes, long output, long measureNanos, long layoutNanos, long emitNanos);
+  }
+
+  /**
+   * A {@link Listener} that accumulates the {@link Metric}s of renders per {@link Source}, for export into a metrics system. Counters
+   * can be updated from any number of threads.
+   */
+  public static class Counters implements Listener {
+    private final LongAdder[][] adders = new LongAdder[Source.values().length][Metric.values().length];
+
+    /**
+     * Creates a new {@link Counters} with all metrics at 0.
+     */
+    public Counters() {
+      for (final LongAdder[] metrics : adders) // [A]
+        for (int i = 0; i < metrics.length; ++i) // [A]
+          metrics[i] = new LongAdder();
+    }
+
+    @Override
+    public void onRender(final Source source, final long cells, final long rows, final long escapes, final long output, final long measureNanos, final long layoutNanos, final long emitNanos) {
+      final LongAdder[] metrics = adders[source.ordinal()];
+      metrics[Metric.CALLS.ordinal()].increment();
+      metrics[Metric.CELLS.ordinal()].add(cells);
+      metrics[Metric.ROWS.ordinal()].add(rows);
+      metrics[Metric.ESCAPES.ordinal()].add(escapes);
+      metrics[Metric.OUTPUT.ordinal()].add(output);
+      metrics[Metric.MEASURE_NANOS.ordinal()].add(measureNanos);
+      metrics[Metric.LAYOUT_NANOS.ordinal()].add(layoutNanos);
+      metrics[Metric.EMIT_NANOS.ordinal()].add(emitNanos);
+    }
+
+    /**
+     * Returns the accumulated value of the specified {@link Metric} for the specified {@link Source}.
+     *
+     * @param source The {@link Source}.
+     * @param metric The {@link Metric}.
+     * @return The accumulated value of the specified {@link Metric} for the specified {@link Source}.
+     * @throws NullPointerException If {@code source} or {@code metric} is null.
+     */
+    public long get(final Source source, final Metric metric) {
+      return adders[source.ordinal()][metric.ordinal()].sum();
+    }
+
+    /**
+     * Resets all metrics to 0.
+     */
+    public void reset() {
+      for (final LongAdder[] metrics : adders) // [A]
+        for (final LongAdder adder : metrics) // [A]
+          adder.reset();
+    }
+  }
+
+  private static volatile Listener listener;
+
+  /**
+   * Sets the {@link Listener} of renders, or disables instrumentation if {@code listener} is null.
+   *
+   * @param listener The {@link Listener}, or {@code null} to disable instrumentation.
+   */
+  public static void setListener(final Listener listener) {
+    Instrumentation.listener = listener;
+  }
+
+  /**
+   * Returns the {@link Listener} of renders, or {@code null} if instrumentation is disabled.
+   *
+   * @return The {@link Listener} of renders, or {@code null} if instrumentation is disabled.
+   */
+  public static Listener getListener() {
+    return listener;
+  }
+
+  /**
+   * Returns the number of ANSI escape sequences in the specified string.
+   *
+   * @param str The string.
+   * @return The number of ANSI escape sequences in the specified string.
+   */
+  static int escapes(final String str) {
+    int count = 0;
+    for (int i = str.indexOf('\033'); i >= 0; i = str.indexOf('\033', i + 1)) // [N]
+      ++count;
+
+    return count;
+  }
+
+  private Instrumentation() {
+  }
+}
@@ -0,0 +1,669 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * An in-memory model of the screen of a terminal, which consumes the output of {@link Ansi}, {@link Tables},
+ * {@link org.libj.console.drawille.Canvas Canvas} and {@link Csi}, either as UTF-8 bytes via {@link #write(int)}, or as chars via
+ * {@link #append(CharSequence)}. The screen is held as a grid of cells, each packed into an {@code int} of its code point, its
+ * {@link Ansi.Color} and its {@link Ansi.Intensity}, so that screens are compared with {@link #equals(Object)} and {@link #diff(Screen)}
+ * by scanning a single array.
+ * <p>
+ * The following are interpreted:
+ * <ul>
+ * <li>Printable code points, each occupying 1 cell, which wrap to the next line at the right margin.</li>
+ * <li>{@code \n} (as a carriage return and line feed, like the output translation of terminals), {@code \r}, {@code \b} and
+ * {@code \t}.</li>
+ * <li>SGR colors and intensities, cursor positioning and relative moves, erasure of lines and of the screen, scroll regions and
+ * scrolling, saving and restoring of the cursor, visibility of the cursor, and the alternate screen.</li>
+ * </ul>
+ * Other control characters and sequences are consumed and ignored. Malformed UTF-8 is decoded as {@code U+FFFD}.
+ * <p>
+ * This class is not thread safe.
+ */
+public class Screen extends OutputStream implements Appendable {
+  private static final Ansi.Color[] colors = Ansi.Color.values();
+  private static final Ansi.Intensity[] intensities = Ansi.Intensity.values();
+  private static final int COLOR_SHIFT = 21;
+  private static final int INTENSITY_SHIFT = 25;
+  private static final int CODE_POINT_MASK = (1 << COLOR_SHIFT) - 1;
+  private static final int DEFAULT_STYLE = Ansi.Color.DEFAULT.ordinal() << COLOR_SHIFT | Ansi.Intensity.DEFAULT.ordinal() << INTENSITY_SHIFT;
+  private static final int BLANK = ' ' | DEFAULT_STYLE;
+  private static final int MAX_PARAMS = 16;
+
+  private static final byte GROUND = 0;
+  private static final byte ESCAPE = 1;
+  private static final byte CSI = 2;
+
+  private final int columns;
+  private final int rows;
+  private final int[] cells;
+  private int[] main;
+
+  private int col;
+  private int row;
+  private boolean wrap;
+  private int savedCol;
+  private int savedRow;
+  private int style = DEFAULT_STYLE;
+  private int top;
+  private int bottom;
+  private boolean cursorVisible = true;
+
+  private byte state = GROUND;
+  private final int[] params = new int[MAX_PARAMS];
+  private int param;
+  private boolean privateMode;
+
+  private int codePoint;
+  private int continuations;
+  private long bytes;
+
+  /**
+   * Creates a new blank {@link Screen} with the specified number of columns and rows.
+   *
+   * @param columns The number of columns.
+   * @param rows The number of rows.
+   * @throws IllegalArgumentException If {@code columns} or {@code rows} is not positive.
+   */
+  public Screen(final int columns, final int rows) {
+    if (columns <= 0)
+      throw new IllegalArgumentException("columns (" + columns + ") <= 0");
+
+    if (rows <= 0)
+      throw new IllegalArgumentException("rows (" + rows + ") <= 0");
+
+    this.columns = columns;
+    this.rows = rows;
+    this.cells = new int[columns * rows];
+    this.bottom = rows - 1;
+    Arrays.fill(cells, BLANK);
+  }
+
+  /**
+   * Creates a new {@link Screen} with the cells, the cursor and the attributes of the specified {@link Screen}, as a snapshot against
+   * which to {@linkplain #diff(Screen) diff} subsequent frames.
+   *
+   * @param copy The {@link Screen} to copy.
+   * @throws NullPointerException If {@code copy} is null.
+   */
+  public Screen(final Screen copy) {
+    this.columns = copy.columns;
+    this.rows = copy.rows;
+    this.cells = copy.cells.clone();
+    this.main = copy.main == null ? null : copy.main.clone();
+    this.col = copy.col;
+    this.row = copy.row;
+    this.wrap = copy.wrap;
+    this.savedCol = copy.savedCol;
+    this.savedRow = copy.savedRow;
+    this.style = copy.style;
+    this.top = copy.top;
+    this.bottom = copy.bottom;
+    this.cursorVisible = copy.cursorVisible;
+    this.state = copy.state;
+    System.arraycopy(copy.params, 0, params, 0, MAX_PARAMS);
+    this.param = copy.param;
+    this.privateMode = copy.privateMode;
+    this.codePoint = copy.codePoint;
+    this.continuations = copy.continuations;
+    this.bytes = copy.bytes;
+  }
+
+  /**
+   * Returns the number of columns.
+   *
+   * @return The number of columns.
+   */
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the 0-based column of the cursor.
+   *
+   * @return The 0-based column of the cursor.
+   */
+  public int getCursorColumn() {
+    return col;
+  }
+
+  /**
+   * Returns the 0-based row of the cursor.
+   *
+   * @return The 0-based row of the cursor.
+   */
+  public int getCursorRow() {
+    return row;
+  }
+
+  /**
+   * Returns whether the cursor is visible.
+   *
+   * @return Whether the cursor is visible.
+   */
+  public boolean isCursorVisible() {
+    return cursorVisible;
+  }
+
+  /**
+   * Returns the number of bytes consumed, counting chars {@linkplain #append(CharSequence) appended} by the length of their UTF-8
+   * encoding.
+   *
+   * @return The number of bytes consumed.
+   */
+  public long getByteCount() {
+    return bytes;
+  }
+
+  /**
+   * Resets the {@linkplain #getByteCount() number of bytes consumed} to 0, such as at the start of a frame.
+   */
+  public void resetByteCount() {
+    bytes = 0;
+  }
+
+  private int index(final int col, final int row) {
+    if (col < 0 || col >= columns)
+      throw new IndexOutOfBoundsException("col: " + col + ", columns: " + columns);
+
+    if (row < 0 || row >= rows)
+      throw new IndexOutOfBoundsException("row: " + row + ", rows: " + rows);
+
+    return row * columns + col;
+  }
+
+  /**
+   * Returns the code point of the specified cell, which is {@code ' '} for blank cells.
+   *
+   * @param col The 0-based column of the cell.
+   * @param row The 0-based row of the cell.
+   * @return The code point of the specified cell.
+   * @throws IndexOutOfBoundsException If {@code col} or {@code row} is out of range.
+   */
+  public int getCodePoint(final int col, final int row) {
+    return cells[index(col, row)] & CODE_POINT_MASK;
+  }
+
+  /**
+   * Returns the {@link Ansi.Color} of the specified cell.
+   *
+   * @param col The 0-based column of the cell.
+   * @param row The 0-based row of the cell.
+   * @return The {@link Ansi.Color} of the specified cell.
+   * @throws IndexOutOfBoundsException If {@code col} or {@code row} is out of range.
+   */
+  public Ansi.Color getColor(final int col, final int row) {
+    return colors[cells[index(col, row)] >>> COLOR_SHIFT & 0xF];
+  }
+
+  /**
+   * Returns the {@link Ansi.Intensity} of the specified cell.
+   *
+   * @param col The 0-based column of the cell.
+   * @param row The 0-based row of the cell.
+   * @return The {@link Ansi.Intensity} of the specified cell.
+   * @throws IndexOutOfBoundsException If {@code col} or {@code row} is out of range.
+   */
+  public Ansi.Intensity getIntensity(final int col, final int row) {
+    return intensities[cells[index(col, row)] >>> INTENSITY_SHIFT];
+  }
+
+  /**
+   * Returns the text of the specified row, without trailing blanks.
+   *
+   * @param row The 0-based row.
+   * @return The text of the specified row, without trailing blanks.
+   * @throws IndexOutOfBoundsException If {@code row} is out of range.
+   */
+  public String getText(final int row) {
+    final int from = index(0, row);
+    int to = from + columns;
+    while (to > from && (cells[to - 1] & CODE_POINT_MASK) == ' ')
+      --to;
+
+    final StringBuilder builder = new StringBuilder(to - from);
+    for (int i = from; i < to; ++i) // [A]
+      builder.appendCodePoint(cells[i] & CODE_POINT_MASK);
+
+    return builder.toString();
+  }
+
+  /**
+   * Returns the indices ({@code row * columns + col}) of the cells that differ between this screen and the specified {@link Screen},
+   * in ascending order.
+   *
+   * @param that The {@link Screen} to compare to.
+   * @return The indices of the cells that differ between this screen and the specified {@link Screen}.
+   * @throws IllegalArgumentException If the dimensions of the screens differ.
+   * @throws NullPointerException If {@code that} is null.
+   */
+  public int[] diff(final Screen that) {
+    if (that.columns != columns || that.rows != rows)
+      throw new IllegalArgumentException("Dimensions differ: " + columns + "x" + rows + " != " + that.columns + "x" + that.rows);
+
+    final int[] a = cells;
+    final int[] b = that.cells;
+    int count = 0;
+    for (int i = 0; i < a.length; ++i) // [A]
+      if (a[i] != b[i])
+        ++count;
+
+    final int[] diff = new int[count];
+    for (int i = 0, j = 0; j < count; ++i) // [A]
+      if (a[i] != b[i])
+        diff[j++] = i;
+
+    return diff;
+  }
+
+  /**
+   * Blanks all cells, moves the cursor home, and resets the style, the scroll region, and the visibility of the cursor.
+   */
+  public void reset() {
+    Arrays.fill(cells, BLANK);
+    main = null;
+    col = row = savedCol = savedRow = 0;
+    wrap = false;
+    style = DEFAULT_STYLE;
+    top = 0;
+    bottom = rows - 1;
+    cursorVisible = true;
+    state = GROUND;
+    continuations = 0;
+  }
+
+  @Override
+  public void write(final int b) {
+    ++bytes;
+    if (continuations > 0) {
+      if ((b & 0xC0) == 0x80) {
+        codePoint = codePoint << 6 | b & 0x3F;
+        if (--continuations == 0)
+          accept(codePoint);
+
+        return;
+      }
+
+      continuations = 0;
+      accept(0xFFFD);
+    }
+
+    if ((b & 0x80) == 0) {
+      accept(b & 0x7F);
+    }
+    else if ((b & 0xE0) == 0xC0) {
+      codePoint = b & 0x1F;
+      continuations = 1;
+    }
+    else if ((b & 0xF0) == 0xE0) {
+      codePoint = b & 0x0F;
+      continuations = 2;
+    }
+    else if ((b & 0xF8) == 0xF0) {
+      codePoint = b & 0x07;
+      continuations = 3;
+    }
+    else {
+      accept(0xFFFD);
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) {
+    if (off < 0 || len < 0 || len > b.length - off)
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + b.length);
+
+    for (int i = off, i$ = off + len; i < i$; ++i) // [A]
+      write(b[i]);
+  }
+
+  @Override
+  public Screen append(final CharSequence csq) {
+    return csq == null ? append("null", 0, 4) : append(csq, 0, csq.length());
+  }
+
+  @Override
+  public Screen append(final CharSequence csq, final int start, final int end) {
+    if (csq == null)
+      return append("null", start, end);
+
+    if (start < 0 || start > end || end > csq.length())
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + csq.length());
+
+    for (int i = start; i < end; ++i) { // [N]
+      final char ch = csq.charAt(i);
+      if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(csq.charAt(i + 1))) {
+        bytes += 4;
+        accept(Character.toCodePoint(ch, csq.charAt(++i)));
+      }
+      else {
+        bytes += ch < 0x80 ? 1 : ch < 0x800 ? 2 : 3;
+        accept(Character.isSurrogate(ch) ? 0xFFFD : ch);
+      }
+    }
+
+    return this;
+  }
+
+  @Override
+  public Screen append(final char c) {
+    bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+    accept(Character.isSurrogate(c) ? 0xFFFD : c);
+    return this;
+  }
+
+  private void accept(final int cp) {
+    if (state == CSI) {
+      if ('0' <= cp && cp <= '9') {
+        if (param < MAX_PARAMS)
+          params[param] = Math.min(params[param] * 10 + cp - '0', 99999);
+      }
+      else if (cp == ';') {
+        if (++param < MAX_PARAMS)
+          params[param] = 0;
+      }
+      else if (cp == '?') {
+        privateMode = true;
+      }
+      else if (0x40 <= cp && cp <= 0x7E) {
+        state = GROUND;
+        csi(cp, Math.min(param + 1, MAX_PARAMS));
+      }
+      else if (cp < 0x20 || cp > 0x3F) {
+        state = GROUND;
+      }
+    }
+    else if (state == ESCAPE) {
+      state = GROUND;
+      if (cp == '[') {
+        state = CSI;
+        params[0] = 0;
+        param = 0;
+        privateMode = false;
+      }
+      else if (cp == '7') {
+        save();
+      }
+      else if (cp == '8') {
+        restore();
+      }
+    }
+    else if (cp == '\033') {
+      state = ESCAPE;
+    }
+    else if (cp == '\n') {
+      col = 0;
+      wrap = false;
+      lineFeed();
+    }
+    else if (cp == '\r') {
+      col = 0;
+      wrap = false;
+    }
+    else if (cp == '\b') {
+      if (col > 0 && !wrap)
+        --col;
+
+      wrap = false;
+    }
+    else if (cp == '\t') {
+      col = Math.min(columns - 1, (col + 8) & ~7);
+      wrap = false;
+    }
+    else if (cp >= 0x20 && cp != 0x7F) {
+      print(cp > Character.MAX_CODE_POINT ? 0xFFFD : cp);
+    }
+  }
+
+  private void print(final int cp) {
+    if (wrap) {
+      col = 0;
+      wrap = false;
+      lineFeed();
+    }
+
+    cells[row * columns + col] = cp | style;
+    if (col == columns - 1)
+      wrap = true;
+    else
+      ++col;
+  }
+
+  private void lineFeed() {
+    if (row == bottom)
+      scroll(1);
+    else if (row < rows - 1)
+      ++row;
+  }
+
+  /**
+   * Scrolls the scroll region up by {@code n} rows if {@code n} is positive, or down by {@code -n} rows if {@code n} is negative.
+   */
+  private void scroll(final int n) {
+    final int height = bottom - top + 1;
+    final int from = top * columns;
+    final int to = (bottom + 1) * columns;
+    if (n >= height || -n >= height) {
+      Arrays.fill(cells, from, to, BLANK);
+    }
+    else if (n > 0) {
+      final int shift = n * columns;
+      System.arraycopy(cells, from + shift, cells, from, to - from - shift);
+      Arrays.fill(cells, to - shift, to, BLANK);
+    }
+    else if (n < 0) {
+      final int shift = -n * columns;
+      System.arraycopy(cells, from, cells, from + shift, to - from - shift);
+      Arrays.fill(cells, from, from + shift, BLANK);
+    }
+  }
+
+  private void save() {
+    savedCol = col;
+    savedRow = row;
+  }
+
+  private void restore() {
+    col = savedCol;
+    row = savedRow;
+    wrap = false;
+  }
+
+  private void moveTo(final int col, final int row) {
+    this.col = Math.max(0, Math.min(columns - 1, col));
+    this.row = Math.max(0, Math.min(rows - 1, row));
+    this.wrap = false;
+  }
+
+  private void csi(final int fin, final int count) {
+    final int p0 = params[0];
+    final int n = Math.max(1, p0);
+    if (privateMode) {
+      if (fin == 'h' || fin == 'l') {
+        for (int i = 0; i < count; ++i) { // [A]
+          if (params[i] == 25) {
+            cursorVisible = fin == 'h';
+          }
+          else if (params[i] == 1049) {
+            if (fin == 'h' && main == null) {
+              save();
+              main = cells.clone();
+              Arrays.fill(cells, BLANK);
+            }
+            else if (fin == 'l' && main != null) {
+              System.arraycopy(main, 0, cells, 0, cells.length);
+              main = null;
+              restore();
+            }
+          }
+        }
+      }
+
+      return;
+    }
+
+    switch (fin) {
+      case 'A':
+        moveTo(col, Math.max(row >= top ? top : 0, row - n));
+        break;
+      case 'B':
+        moveTo(col, Math.min(row <= bottom ? bottom : rows - 1, row + n));
+        break;
+      case 'C':
+        moveTo(col + n, row);
+        break;
+      case 'D':
+        moveTo(col - n, row);
+        break;
+      case 'G':
+        moveTo(n - 1, row);
+        break;
+      case 'H':
+      case 'f':
+        moveTo(count > 1 ? Math.max(1, params[1]) - 1 : 0, n - 1);
+        break;
+      case 'J':
+        if (p0 == 0)
+          Arrays.fill(cells, row * columns + col, cells.length, BLANK);
+        else if (p0 == 1)
+          Arrays.fill(cells, 0, row * columns + col + 1, BLANK);
+        else
+          Arrays.fill(cells, BLANK);
+
+        break;
+      case 'K':
+        if (p0 == 0)
+          Arrays.fill(cells, row * columns + col, (row + 1) * columns, BLANK);
+        else if (p0 == 1)
+          Arrays.fill(cells, row * columns, row * columns + col + 1, BLANK);
+        else
+          Arrays.fill(cells, row * columns, (row + 1) * columns, BLANK);
+
+        break;
+      case 'S':
+        scroll(Math.min(n, rows));
+        break;
+      case 'T':
+        scroll(-Math.min(n, rows));
+        break;
+      case 'm':
+        sgr(count);
+        break;
+      case 'r':
+        final int t = n - 1;
+        final int b = count > 1 && params[1] > 0 ? Math.min(rows, params[1]) - 1 : rows - 1;
+        if (t < b) {
+          top = t;
+          bottom = b;
+          moveTo(0, 0);
+        }
+
+        break;
+      case 's':
+        save();
+        break;
+      case 'u':
+        restore();
+        break;
+      default:
+    }
+  }
+
+  private void sgr(final int count) {
+    int color = style >>> COLOR_SHIFT & 0xF;
+    int intensity = style >>> INTENSITY_SHIFT;
+    for (int i = 0; i < count; ++i) { // [A]
+      final int p = params[i];
+      if (p == 0) {
+        color = Ansi.Color.DEFAULT.ordinal();
+        intensity = Ansi.Intensity.DEFAULT.ordinal();
+      }
+      else if (p == 1) {
+        intensity = Ansi.Intensity.BOLD.ordinal();
+      }
+      else if (p == 2) {
+        intensity = Ansi.Intensity.FAINT.ordinal();
+      }
+      else if (p == 3) {
+        intensity = Ansi.Intensity.ITALIC.ordinal();
+      }
+      else if (p == 4) {
+        intensity = Ansi.Intensity.UNDERLINE.ordinal();
+      }
+      else if (22 <= p && p <= 24) {
+        intensity = Ansi.Intensity.DEFAULT.ordinal();
+      }
+      else if (30 <= p && p <= 37 || p == 39) {
+        color = Ansi.Color.fromCode(p - 30).ordinal();
+      }
+      else if (90 <= p && p <= 97) {
+        color = Ansi.Color.fromCode(p - 90).ordinal();
+        intensity = Ansi.Intensity.INTENSE.ordinal();
+      }
+    }
+
+    style = color << COLOR_SHIFT | intensity << INTENSITY_SHIFT;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Screen))
+      return false;
+
+    final Screen that = (Screen)obj;
+    return columns == that.columns && Arrays.equals(cells, that.cells);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * columns + Arrays.hashCode(cells);
+  }
+
+  /**
+   * Returns the text of the screen, with 1 line per row without trailing blanks.
+   *
+   * @return The text of the screen.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    for (int r = 0; r < rows; ++r) { // [N]
+      if (r > 0)
+        builder.append('\n');
+
+      builder.append(getText(r));
+    }
+
+    return builder.toString();
+  }
+}
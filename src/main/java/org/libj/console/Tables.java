@@ -427,14 +427,54 @@ public final class Tables {
     return printTable(borders, alignHeading, align, 1, false, columns);
   }
 
-  private static int maxLengthPrintable(final String[] strings) {
+  private static int maxDisplayWidth(final String[] strings) {
     int len = 0;
     for (int i = 0, i$ = strings.length; i < i$; ++i) // [A]
-      len = Math.max(len, Strings.lengthPrintable(strings[i]));
+      len = Math.max(len, DisplayWidth.cached(strings[i]));
 
     return len;
   }
 
+  /**
+   * Returns the specified line padded with spaces to the specified number of columns, as measured by
+   * {@link DisplayWidth#cached(String)}. The widths of columns are measured from the same lines, so no line is wider than its column.
+   */
+  private static String pad(final String line, final Align align, final int width) {
+    final int fill = width - DisplayWidth.cached(line);
+    if (fill <= 0)
+      return line;
+
+    final int left = align == RIGHT ? fill : align == CENTER ? fill / 2 : 0;
+    final StringBuilder builder = new StringBuilder(line.length() + fill);
+    for (int i = 0; i < left; ++i) // [N]
+      builder.append(' ');
+
+    builder.append(line);
+    for (int i = left; i < fill; ++i) // [N]
+      builder.append(' ');
+
+    return builder.toString();
+  }
+
+  /**
+   * Returns each line of the specified string padded to the specified number of columns.
+   */
+  private static String padAll(final String str, final Align align, final int width) {
+    if (str.indexOf('\n') < 0)
+      return pad(str, align, width);
+
+    final String[] lines = Strings.split(str, '\n');
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0, i$ = lines.length; i < i$; ++i) { // [A]
+      if (i > 0)
+        builder.append('\n');
+
+      builder.append(pad(lines[i], align, width));
+    }
+
+    return builder.toString();
+  }
+
   /**
    * Returns a string with a table layout of the provided 2 dimensional array of columns.
    *
@@ -447,11 +487,30 @@ public final class Tables {
    * @return A string with a column layout of the provided 2 dimensional array.
    * @throws NullPointerException If {@code columns} is null.
    */
-  public static String printTable(final boolean borders, final Align alignHeading, final Align align, final int cells, boolean firstColumnOneCell, final String[] ... columns) {
+  public static String printTable(final boolean borders, final Align alignHeading, final Align align, final int cells, final boolean firstColumnOneCell, final String[] ... columns) {
+    final Instrumentation.Listener listener = Instrumentation.getListener();
+    if (listener == null)
+      return printTable0(null, borders, alignHeading, align, cells, firstColumnOneCell, columns);
+
+    listener.onBegin(Instrumentation.Source.TABLE);
+    try {
+      return printTable0(listener, borders, alignHeading, align, cells, firstColumnOneCell, columns);
+    }
+    catch (final RuntimeException | Error e) {
+      listener.onAbort(Instrumentation.Source.TABLE);
+      throw e;
+    }
+  }
+
+  private static String printTable0(final Instrumentation.Listener listener, final boolean borders, final Align alignHeading, final Align align, final int cells, boolean firstColumnOneCell, final String[] ... columns) {
     // Moot if cells == 1 and firstColumnOneCell == true
     if (cells == 1)
       firstColumnOneCell = false;
 
+    final long start = listener == null ? 0 : System.nanoTime();
+    int measured = 0;
+    long escapes = 0;
+
     // Count the total number of rows
     int numRows = 0;
     for (int c = 0, c$ = columns.length; c < c$; ++c) // [A]
@@ -474,7 +533,13 @@ public final class Tables {
         // First row is the heading, which has only 1 cell
         String[] multiline = rows[0] == null ? Strings.EMPTY_ARRAY : Strings.split(rows[0], '\n');
         heights[h] = Math.max(heights[h++], multiline.length);
-        final int headingWidth = rows[0] == null ? 0 : maxLengthPrintable(multiline);
+        if (rows[0] != null) {
+          ++measured;
+          if (listener != null)
+            escapes += Instrumentation.escapes(rows[0]);
+        }
+
+        final int headingWidth = rows[0] == null ? 0 : maxDisplayWidth(multiline);
         for (int i = 0; i < cells; ++i) { // [A]
           final int width = widths[w + i];
           int cellWidth = headingWidth;
@@ -495,13 +560,35 @@ public final class Tables {
             if (j < rows.length && rows[j] != null) {
               multiline = Strings.split(rows[j], '\n');
               heights[h] = Math.max(heights[h], multiline.length);
-              widths[w + i] = Math.max(width, maxLengthPrintable(multiline));
+              widths[w + i] = Math.max(width, maxDisplayWidth(multiline));
+              ++measured;
+              if (listener != null)
+                escapes += Instrumentation.escapes(rows[j]);
             }
           }
         }
       }
     }
 
+    final long measureEnd = listener == null ? 0 : System.nanoTime();
+
+    // Calculate the full column width across the # of `cells`
+    final int[] fullWidths = new int[columns.length];
+    for (int c = 0, c$ = columns.length; c < c$; ++c) { // [A]
+      final int w = c * cells - (c > 0 && firstColumnOneCell ? 1 : 0);
+      int fullWidth = -cellPaddingLength;
+      for (int i = 0; i < cells; ++i) { // [A]
+        final int width = widths[w + i];
+        fullWidth += width + cellPaddingLength;
+        if (c == 0 && firstColumnOneCell)
+          break;
+      }
+
+      fullWidths[c] = fullWidth;
+    }
+
+    final long layoutEnd = listener == null ? 0 : System.nanoTime();
+
     // Print the rows
     final StringBuilder builder = new StringBuilder();
 
@@ -509,20 +596,10 @@ public final class Tables {
     if (borders) {
       builder.append('╔');
       for (int c = 0, c$ = columns.length; c < c$; ++c) { // [A]
-        final int w = c * cells - (c > 0 && firstColumnOneCell ? 1 : 0);
         if (c > 0)
           builder.append('╦');
 
-        // Calculate the full column width across the # of `cells`
-        int fullWidth = -cellPaddingLength;
-        for (int i = 0; i < cells; ++i) { // [A]
-          final int width = widths[w + i];
-          fullWidth += width + cellPaddingLength;
-          if (c == 0 && firstColumnOneCell)
-            break;
-        }
-
-        builder.append(Strings.repeat('═', fullWidth + 2));
+        builder.append(Strings.repeat('═', fullWidths[c] + 2));
       }
 
       builder.append('╗');
@@ -535,7 +612,6 @@ public final class Tables {
         builder.append("\n║ ");
 
       for (int c = 0, c$ = columns.length; c < c$; ++c) { // [A]
-        final int w = c * cells - (c > 0 && firstColumnOneCell ? 1 : 0);
         rows = columns[c];
         String row = rows == null || rows.length == 0 || rows[0] == null ? "" : rows[0];
         if (heights[0] != 1) {
@@ -544,16 +620,7 @@ public final class Tables {
           row = -1 < m && m < multiline.length ? multiline[m] : "";
         }
 
-        // Calculate the full column width across the # of `cells`
-        int fullWidth = -cellPaddingLength;
-        for (int i = 0; i < cells; ++i) { // [A]
-          final int width = widths[w + i];
-          fullWidth += width + cellPaddingLength;
-          if (c == 0 && firstColumnOneCell)
-            break;
-        }
-
-        builder.append(Strings.pad(row, alignHeading, fullWidth, ' ', true));
+        builder.append(pad(row, alignHeading, fullWidths[c]));
         if (borders)
           builder.append(" ║");
 
@@ -587,7 +654,8 @@ public final class Tables {
     }
 
     // Print the data rows
-    for (int r = 1; r < maxRows; r += cells) { // [A]
+    int emitted = 0;
+    for (int r = 1; r < maxRows; r += cells, ++emitted) { // [A]
       builder.append('\n');
       if (borders)
         builder.append("║ ");
@@ -602,7 +670,7 @@ public final class Tables {
 
           final String cell = rows == null || i + j >= rows.length || rows[i + j] == null ? "" : rows[i + j];
           final int width = widths[w + j];
-          builder.append(Strings.padAll(cell, align, width, ' ', false));
+          builder.append(padAll(cell, align, width));
           if (c == 0 && firstColumnOneCell)
             break;
         }
@@ -639,7 +707,189 @@ public final class Tables {
       builder.append('╝');
     }
 
-    return builder.length() == 0 ? "null" : builder.toString();
+    final String table = builder.length() == 0 ? "null" : builder.toString();
+    if (listener != null)
+      listener.onRender(Instrumentation.Source.TABLE, measured, emitted, escapes, table.length(), measureEnd - start, layoutEnd - measureEnd, System.nanoTime() - layoutEnd);
+
+    return table;
+  }
+
+  /**
+   * Returns a string with a table layout of the provided {@link DictionaryColumn}s, without borders, with headings aligned to the
+   * {@link Align#CENTER center}, and data cells aligned to the {@link Align#LEFT left}.
+   *
+   * @param columns The {@link DictionaryColumn}s to print.
+   * @return A string with a table layout of the provided {@link DictionaryColumn}s.
+   * @throws NullPointerException If {@code columns} or a member of {@code columns} is null.
+   */
+  public static String printTable(final DictionaryColumn ... columns) {
+    return printTable(false, CENTER, LEFT, columns);
+  }
+
+  /**
+   * Returns a string with a table layout of the provided {@link DictionaryColumn}s, which is equal to that of
+   * {@link #printTable(boolean,Align,Align,String[]...)} for the decoded columns. Each distinct value that is the value of a row is
+   * measured and padded once, and each row is rendered by copying the padded values of its cells.
+   *
+   * @param borders Whether to draw borders.
+   * @param alignHeading {@link Align} for the heading.
+   * @param align Text alignment to be used for data cells.
+   * @param columns The {@link DictionaryColumn}s to print.
+   * @return A string with a table layout of the provided {@link DictionaryColumn}s.
+   * @throws NullPointerException If {@code columns} or a member of {@code columns} is null.
+   */
+  public static String printTable(final boolean borders, final Align alignHeading, final Align align, final DictionaryColumn ... columns) {
+    final Instrumentation.Listener listener = Instrumentation.getListener();
+    if (listener == null)
+      return printTable0(null, borders, alignHeading, align, columns);
+
+    listener.onBegin(Instrumentation.Source.TABLE);
+    try {
+      return printTable0(listener, borders, alignHeading, align, columns);
+    }
+    catch (final RuntimeException | Error e) {
+      listener.onAbort(Instrumentation.Source.TABLE);
+      throw e;
+    }
+  }
+
+  private static String printTable0(final Instrumentation.Listener listener, final boolean borders, final Align alignHeading, final Align align, final DictionaryColumn ... columns) {
+    final long start = listener == null ? 0 : System.nanoTime();
+    int measured = 0;
+    long escapes = 0;
+
+    final int numColumns = columns.length;
+    final String[][] headings = new String[numColumns][];
+    final int[] widths = new int[numColumns];
+    final boolean[][] used = new boolean[numColumns][];
+    int headingHeight = 0;
+    int numRows = 0;
+    for (int c = 0; c < numColumns; ++c) { // [A]
+      final DictionaryColumn column = columns[c];
+      numRows = Math.max(numRows, column.size());
+      final String heading = column.getHeading();
+      headings[c] = heading == null ? Strings.EMPTY_ARRAY : Strings.split(heading, '\n');
+      headingHeight = Math.max(headingHeight, headings[c].length);
+      if (heading != null) {
+        widths[c] = maxDisplayWidth(headings[c]);
+        ++measured;
+        if (listener != null)
+          escapes += Instrumentation.escapes(heading);
+      }
+
+      // Measure each distinct value of the rows once
+      final boolean[] u = used[c] = column.used();
+      for (int v = 0, v$ = u.length; v < v$; ++v) { // [A]
+        final String value = column.getValue(v);
+        if (u[v] && value != null) {
+          widths[c] = Math.max(widths[c], maxDisplayWidth(Strings.split(value, '\n')));
+          ++measured;
+          if (listener != null)
+            escapes += Instrumentation.escapes(value);
+        }
+      }
+    }
+
+    final long measureEnd = listener == null ? 0 : System.nanoTime();
+
+    // Pad each distinct value of the rows once, followed by the separator of cells
+    final String separator = borders ? " ║ " : " ";
+    final String[][] fragments = new String[numColumns][];
+    final String[] blanks = new String[numColumns];
+    int rowLength = 1 + (borders ? 2 : 0);
+    for (int c = 0; c < numColumns; ++c) { // [A]
+      final DictionaryColumn column = columns[c];
+      final boolean[] u = used[c];
+      final String[] f = fragments[c] = new String[u.length];
+      int maxLength = 0;
+      for (int v = 0, v$ = u.length; v < v$; ++v) { // [A]
+        if (u[v]) {
+          final String value = column.getValue(v);
+          f[v] = padAll(value == null ? "" : value, align, widths[c]) + separator;
+          maxLength = Math.max(maxLength, f[v].length());
+        }
+      }
+
+      blanks[c] = padAll("", align, widths[c]) + separator;
+      rowLength += Math.max(maxLength, blanks[c].length());
+    }
+
+    final long layoutEnd = listener == null ? 0 : System.nanoTime();
+
+    final StringBuilder builder = new StringBuilder(rowLength * (numRows + headingHeight + 3));
+
+    // Print the top border
+    if (borders) {
+      builder.append('╔');
+      for (int c = 0; c < numColumns; ++c) { // [A]
+        if (c > 0)
+          builder.append('╦');
+
+        builder.append(Strings.repeat('═', widths[c] + 2));
+      }
+
+      builder.append('╗');
+    }
+
+    // Print the heading row
+    for (int h = 0; h < headingHeight; ++h) { // [A]
+      if (borders)
+        builder.append("\n║ ");
+
+      for (int c = 0; c < numColumns; ++c) { // [A]
+        final String[] multiline = headings[c];
+        final int m = h - (headingHeight - multiline.length);
+        builder.append(pad(-1 < m && m < multiline.length ? multiline[m] : "", alignHeading, widths[c]));
+        if (borders)
+          builder.append(" ║");
+
+        builder.append(' ');
+      }
+    }
+
+    // Print the middle border
+    if (borders) {
+      builder.append("\n╠");
+      for (int c = 0; c < numColumns; ++c) { // [A]
+        if (c > 0)
+          builder.append('╬');
+
+        builder.append(Strings.repeat('═', widths[c] + 2));
+      }
+
+      builder.append('╣');
+    }
+
+    // Print the data rows
+    for (int r = 0; r < numRows; ++r) { // [A]
+      builder.append('\n');
+      if (borders)
+        builder.append("║ ");
+
+      for (int c = 0; c < numColumns; ++c) { // [A]
+        final DictionaryColumn column = columns[c];
+        builder.append(r < column.size() ? fragments[c][column.code(r)] : blanks[c]);
+      }
+    }
+
+    // Print the bottom border
+    if (borders) {
+      builder.append("\n╚");
+      for (int c = 0; c < numColumns; ++c) { // [A]
+        if (c > 0)
+          builder.append('╩');
+
+        builder.append(Strings.repeat('═', widths[c] + 2));
+      }
+
+      builder.append('╝');
+    }
+
+    final String table = builder.length() == 0 ? "null" : builder.toString();
+    if (listener != null)
+      listener.onRender(Instrumentation.Source.TABLE, measured, numRows, escapes, table.length(), measureEnd - start, layoutEnd - measureEnd, System.nanoTime() - layoutEnd);
+
+    return table;
   }
 
   private Tables() {
@@ -0,0 +1,362 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A sink of terminal output that accumulates a frame of table, ANSI and canvas output in a direct buffer, and writes the frame to its
+ * channel with a single write upon {@link #flush()}. Writing a frame through a {@link TerminalSink} avoids the lock and the small
+ * writes of an autoflushing {@link java.io.PrintStream PrintStream}, and so avoids the tearing of frames on the terminal.
+ * <p>
+ * Characters are encoded as UTF-8. A high surrogate that ends an append is held until the next char is appended, so that surrogate
+ * pairs appended char by char, as by a {@link java.util.Formatter Formatter} or a {@link java.io.Writer Writer} adapter, are encoded
+ * as a single code point. A frame that exceeds the capacity of the buffer is
+ * written in as many writes as necessary. If a write to the channel fails, the bytes that were not written remain in the buffer, and
+ * are written by the next flush. The latency of each flush is measured, and is available via {@link #getLastFlushNanos()} and
+ * {@link #getMaxFlushNanos()}.
+ * <p>
+ * This class is not thread safe. Output written to {@link System#out} directly is not ordered with respect to output written to a
+ * {@link TerminalSink} of the standard output.
+ */
+public class TerminalSink extends OutputStream implements Appendable {
+  /** The default capacity of the buffer, in bytes */
+  public static final int DEFAULT_CAPACITY = 1 << 20;
+
+  private final WritableByteChannel channel;
+  private final boolean closeChannel;
+  private final ByteBuffer buffer;
+
+  /** The high surrogate awaiting its low surrogate, or 0 for none */
+  private char highSurrogate;
+
+  private long flushes;
+  private long writes;
+  private long bytes;
+  private long lastFlushNanos;
+  private long maxFlushNanos;
+  private long totalFlushNanos;
+
+  private TerminalSink(final WritableByteChannel channel, final int capacity, final boolean closeChannel) {
+    if (channel == null)
+      throw new NullPointerException("channel == null");
+
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") <= 0");
+
+    this.channel = channel;
+    this.closeChannel = closeChannel;
+    this.buffer = ByteBuffer.allocateDirect(capacity);
+  }
+
+  /**
+   * Creates a new {@link TerminalSink} that writes to the specified channel, with a buffer of the specified capacity. The channel is
+   * closed upon {@link #close()}.
+   *
+   * @param channel The {@link WritableByteChannel} to write to.
+   * @param capacity The capacity of the buffer, in bytes.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public TerminalSink(final WritableByteChannel channel, final int capacity) {
+    this(channel, capacity, true);
+  }
+
+  /**
+   * Creates a new {@link TerminalSink} that writes to the standard output, with a buffer of the specified capacity. The standard output
+   * is not closed upon {@link #close()}.
+   *
+   * @param capacity The capacity of the buffer, in bytes.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public TerminalSink(final int capacity) {
+    this(new FileOutputStream(FileDescriptor.out).getChannel(), capacity, false);
+  }
+
+  /**
+   * Creates a new {@link TerminalSink} that writes to the standard output, with a buffer of {@link #DEFAULT_CAPACITY}. The standard
+   * output is not closed upon {@link #close()}.
+   */
+  public TerminalSink() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Returns the number of bytes of the current frame that have not yet been written to the channel.
+   *
+   * @return The number of bytes of the current frame that have not yet been written to the channel.
+   */
+  public int size() {
+    return buffer.position();
+  }
+
+  /**
+   * Discards the bytes of the current frame that have not yet been written to the channel.
+   */
+  public void reset() {
+    buffer.clear();
+    highSurrogate = 0;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    unpair();
+
+    if (!buffer.hasRemaining())
+      drain();
+
+    buffer.put((byte)b);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off)
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + b.length);
+
+    unpair();
+
+    for (int i = off, i$ = off + len, n; i < i$; i += n) { // [N]
+      if (!buffer.hasRemaining())
+        drain();
+
+      n = Math.min(i$ - i, buffer.remaining());
+      buffer.put(b, i, n);
+    }
+  }
+
+  @Override
+  public TerminalSink append(final CharSequence csq) {
+    return csq == null ? append("null", 0, 4) : append(csq, 0, csq.length());
+  }
+
+  @Override
+  public TerminalSink append(final CharSequence csq, final int start, final int end) {
+    if (csq == null)
+      return append("null", start, end);
+
+    if (start < 0 || start > end || end > csq.length())
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + csq.length());
+
+    try {
+      for (int i = start; i < end; ++i) { // [N]
+        final char ch = csq.charAt(i);
+        if (ch < 0x80 && highSurrogate == 0) {
+          if (!buffer.hasRemaining())
+            drain();
+
+          buffer.put((byte)ch);
+        }
+        else {
+          encodeChar(ch);
+        }
+      }
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public TerminalSink append(final char c) {
+    try {
+      encodeChar(c);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return this;
+  }
+
+  /**
+   * Writes the specified char as UTF-8, combining it with a preceding high surrogate, or holding it if it is a high surrogate. An
+   * unpaired surrogate is written as {@code '?'}.
+   */
+  private void encodeChar(final char ch) throws IOException {
+    if (highSurrogate != 0) {
+      final char high = highSurrogate;
+      highSurrogate = 0;
+      if (Character.isLowSurrogate(ch)) {
+        encode(Character.toCodePoint(high, ch));
+        return;
+      }
+
+      encode('?');
+    }
+
+    if (Character.isHighSurrogate(ch))
+      highSurrogate = ch;
+    else
+      encode(Character.isLowSurrogate(ch) ? '?' : ch);
+  }
+
+  /**
+   * Writes a held high surrogate as {@code '?'}.
+   */
+  private void unpair() throws IOException {
+    if (highSurrogate != 0) {
+      highSurrogate = 0;
+      encode('?');
+    }
+  }
+
+  /**
+   * Writes the specified code point as UTF-8.
+   */
+  private void encode(final int codePoint) throws IOException {
+    if (buffer.remaining() < 4)
+      drain();
+
+    if (codePoint < 0x80) {
+      buffer.put((byte)codePoint);
+    }
+    else if (codePoint < 0x800) {
+      buffer.put((byte)(0xC0 | codePoint >>> 6));
+      buffer.put((byte)(0x80 | codePoint & 0x3F));
+    }
+    else if (codePoint < 0x10000) {
+      buffer.put((byte)(0xE0 | codePoint >>> 12));
+      buffer.put((byte)(0x80 | codePoint >>> 6 & 0x3F));
+      buffer.put((byte)(0x80 | codePoint & 0x3F));
+    }
+    else {
+      buffer.put((byte)(0xF0 | codePoint >>> 18));
+      buffer.put((byte)(0x80 | codePoint >>> 12 & 0x3F));
+      buffer.put((byte)(0x80 | codePoint >>> 6 & 0x3F));
+      buffer.put((byte)(0x80 | codePoint & 0x3F));
+    }
+  }
+
+  /**
+   * Writes the buffered bytes to the channel, and clears the buffer. If a write fails, the bytes that were not written are kept at
+   * the start of the buffer.
+   */
+  private void drain() throws IOException {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        bytes += channel.write(buffer);
+        ++writes;
+      }
+    }
+    finally {
+      buffer.compact();
+    }
+  }
+
+  /**
+   * Ends the current frame by writing its buffered bytes to the channel, and measures the latency of the write.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (buffer.position() == 0)
+      return;
+
+    final long start = System.nanoTime();
+    drain();
+    final long nanos = System.nanoTime() - start;
+    ++flushes;
+    lastFlushNanos = nanos;
+    totalFlushNanos += nanos;
+    if (nanos > maxFlushNanos)
+      maxFlushNanos = nanos;
+  }
+
+  /**
+   * Flushes the current frame, with a held high surrogate written as {@code '?'}, and closes the channel if it is not the standard
+   * output.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      unpair();
+
+      flush();
+    }
+    finally {
+      if (closeChannel)
+        channel.close();
+    }
+  }
+
+  /**
+   * Returns the number of non-empty frames that have been flushed.
+   *
+   * @return The number of non-empty frames that have been flushed.
+   */
+  public long getFlushCount() {
+    return flushes;
+  }
+
+  /**
+   * Returns the number of writes to the channel, which exceeds the {@linkplain #getFlushCount() number of flushes} only if frames
+   * exceeded the capacity of the buffer, or if the channel accepted frames partially.
+   *
+   * @return The number of writes to the channel.
+   */
+  public long getWriteCount() {
+    return writes;
+  }
+
+  /**
+   * Returns the number of bytes written to the channel.
+   *
+   * @return The number of bytes written to the channel.
+   */
+  public long getByteCount() {
+    return bytes;
+  }
+
+  /**
+   * Returns the nanoseconds of the last flush.
+   *
+   * @return The nanoseconds of the last flush.
+   */
+  public long getLastFlushNanos() {
+    return lastFlushNanos;
+  }
+
+  /**
+   * Returns the nanoseconds of the slowest flush.
+   *
+   * @return The nanoseconds of the slowest flush.
+   */
+  public long getMaxFlushNanos() {
+    return maxFlushNanos;
+  }
+
+  /**
+   * Returns the nanoseconds of all flushes.
+   *
+   * @return The nanoseconds of all flushes.
+   */
+  public long getTotalFlushNanos() {
+    return totalFlushNanos;
+  }
+}
@@ -0,0 +1,93 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+/**
+ * Maps sample values onto a fixed number of bins, with a linear or logarithmic {@link Histogram.Scale}.
+ */
+final class Bins {
+  /**
+   * Returns the index of the first source element that is resampled into the destination element at the specified index.
+   *
+   * @param i The index of the destination element.
+   * @param src The number of source elements.
+   * @param dst The number of destination elements.
+   * @return The index of the first source element that is resampled into the destination element at the specified index.
+   */
+  static int from(final int i, final int src, final int dst) {
+    return (int)((long)i * src / dst);
+  }
+
+  /**
+   * Returns the exclusive index of the last source element that is resampled into the destination element at the specified index.
+   * Each destination element is resampled from at least 1 source element.
+   *
+   * @param i The index of the destination element.
+   * @param src The number of source elements.
+   * @param dst The number of destination elements.
+   * @return The exclusive index of the last source element that is resampled into the destination element at the specified index.
+   */
+  static int to(final int i, final int src, final int dst) {
+    return Math.max(from(i, src, dst) + 1, from(i + 1, src, dst));
+  }
+
+  final int count;
+  private final boolean log;
+  private final double lo;
+  private final double factor;
+
+  /**
+   * Creates a new {@link Bins} for the range of [{@code min},{@code max}).
+   *
+   * @param min The inclusive lower bound of the first bin.
+   * @param max The exclusive upper bound of the last bin.
+   * @param count The number of bins.
+   * @param scale The {@link Histogram.Scale} of the bins.
+   * @throws IllegalArgumentException If {@code count} is not positive, if {@code min} is not less than {@code max}, or if
+   *           {@code scale} is {@link Histogram.Scale#LOG} and {@code min} is not positive.
+   * @throws NullPointerException If {@code scale} is null.
+   */
+  Bins(final double min, final double max, final int count, final Histogram.Scale scale) {
+    if (count <= 0)
+      throw new IllegalArgumentException("count (" + count + ") <= 0");
+
+    if (!(min < max))
+      throw new IllegalArgumentException("min (" + min + ") >= max (" + max + ")");
+
+    if (scale == null)
+      throw new NullPointerException("scale == null");
+
+    this.log = scale == Histogram.Scale.LOG;
+    if (log && min <= 0)
+      throw new IllegalArgumentException("min (" + min + ") <= 0 for " + scale + " scale");
+
+    this.count = count;
+    this.lo = log ? Math.log(min) : min;
+    this.factor = count / ((log ? Math.log(max) : max) - lo);
+  }
+
+  /**
+   * Returns the index of the bin of the specified value. Values outside the range of the bins are clamped to the first or last bin.
+   *
+   * @param value The value.
+   * @return The index of the bin of the specified value.
+   */
+  int index(final double value) {
+    final int i = (int)(((log ? Math.log(value) : value) - lo) * factor);
+    return i < 0 ? 0 : i >= count ? count - 1 : i;
+  }
+}
@@ -124,16 +124,27 @@ public class BrailleMap {
    */
   @Override
   public String toString() {
-    int decimal = BrailleMap.UNICODE_OFFSET;
+    int mask = 0;
     Ansi.Color color = null;
     for (int i = 0; i < 8; ++i) { // [N]
       if (map[i] != null) {
         color = map[i];
-        decimal += BrailleMap.TRANSFORM_MATRIX[i];
+        mask |= BrailleMap.TRANSFORM_MATRIX[i];
       }
     }
 
-    final String str = Character.toString((char)decimal);
+    return toString(mask, color);
+  }
+
+  /**
+   * Returns the braille character for the provided dot {@code mask}, with the specified {@code color} applied.
+   *
+   * @param mask The dot mask, where each bit is the {@link #TRANSFORM_MATRIX} value of an activated pixel.
+   * @param color The {@link org.libj.console.Ansi.Color Color} to apply, or {@code null} for no color.
+   * @return The braille character for the provided dot {@code mask}, with the specified {@code color} applied.
+   */
+  static String toString(final int mask, final Ansi.Color color) {
+    final String str = Character.toString((char)(UNICODE_OFFSET + mask));
     return color == null ? str : color.apply(str);
   }
 }
\ No newline at end of file
@@ -21,14 +21,77 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.libj.console.Ansi;
+import org.libj.console.Instrumentation;
 
 /**
- * This class is used to hold all the BrailleMap objects and uses them as sub-matrices. It is an abstraction of a pixel screen.
- * Methods to interact with those pixels can be found in this class.
+ * This class holds the dot masks of a matrix of braille characters, and uses them as sub-matrices. It is an abstraction of a pixel
+ * screen. Methods to interact with those pixels can be found in this class.
+ * <p>
+ * The dots of each braille character are stored as an 8-bit mask (encoded as per {@link BrailleMap#TRANSFORM_MATRIX}), packed 8 cells
+ * per {@code long} word. Each row of braille characters starts on a word boundary.
+ * <p>
+ * <b>Compatibility:</b> Earlier versions held a {@link BrailleMap} per braille character in a {@code protected BrailleMap[] screen}
+ * field, with a color per dot. That field no longer exists: subclasses access the dots through {@link #masks}, or through
+ * {@link #word(int)} and {@link #update(int,long,long)}, and the colors through {@link #colors}. Colors are held per braille
+ * character rather than per dot, so a braille character takes the color of the pixel most recently activated in it, and
+ * {@link #get(int,int)} returns that color for every activated pixel of the braille character. A braille character has always been
+ * rendered in a single color, but one with dots of different colors was previously rendered in the color of its last dot in
+ * {@link BrailleMap#TRANSFORM_MATRIX} order, and is now rendered in the color most recently drawn into it.
  */
 public class Canvas {
+  /**
+   * Enum of operations by which {@link Canvas#blit(Canvas,int,int,int,int,int,int,Op) blit} combines source pixels with destination
+   * pixels.
+   */
+  public enum Op {
+    /** Destination pixels remain activated only where source pixels are activated. */
+    AND,
+    /** Source pixels are activated in addition to destination pixels. */
+    OR,
+    /** Destination pixels are replaced by source pixels. */
+    REPLACE,
+    /** Destination pixels are toggled where source pixels are activated. */
+    XOR
+  }
+
+  /**
+   * Enum of policies for pixels that fall outside the canvas.
+   */
+  public enum Bounds {
+    /** Pixels that fall outside the canvas are skipped. */
+    CLIP,
+    /** A {@link DrawilleException} is thrown for the first pixel that falls outside the canvas, before any pixel is changed. */
+    THROW
+  }
+
+  /**
+   * Enum of shapes with which {@link Canvas#toSvg(Writer,Shape) toSvg} draws activated pixels.
+   */
+  public enum Shape {
+    /** Each activated pixel is drawn as a circle. */
+    DOTS,
+    /** Each horizontal run of activated pixels of the same color is drawn as a rectangle. */
+    RUNS
+  }
+
+  /** SVG fill of each {@link Ansi.Color}, indexed by ordinal */
+  private static final String[] FILLS = new String[Ansi.Color.values().length];
+
+  static {
+    for (final Ansi.Color color : Ansi.Color.values()) { // [A]
+      final String css = color.toCSS();
+      FILLS[color.ordinal()] = css == null ? "currentColor" : css.substring(css.indexOf(':') + 1);
+    }
+  }
+
   /** Width of the canvas */
   protected final int width;
   protected final int pixelWidth;
@@ -39,11 +102,20 @@ public class Canvas {
 
   protected final int area;
 
-  /** Flattened screen matrix */
-  protected final BrailleMap[] screen;
+  /** Number of mask words per row of braille characters */
+  protected final int stride;
+
+  /** Packed dot masks, 8 braille characters per word, or {@code null} if a subclass stores the words elsewhere */
+  protected final long[] masks;
+
+  /** Flattened color matrix, 1 color per braille character, or {@code null} if a subclass stores the colors elsewhere */
+  protected final Ansi.Color[] colors;
+
+  /** Rendered output of each row of braille characters, or {@code null} for rows that changed since they were last rendered */
+  private byte[][] rendered;
 
   /**
-   * This constructor takes in a width and height and initializes a flattened matrix of BrailleMap objects. These objects serve as
+   * This constructor takes in a width and height and initializes a flattened matrix of braille dot masks. These masks serve as
    * sub-matrices and extend the 'pixel' definition that can be displayed on a screen.
    *
    * @param width The desired width of the canvas.
@@ -51,26 +123,44 @@ public class Canvas {
    * @param border Border color.
    */
   public Canvas(final int width, final int height, final Ansi.Color border) {
+    this(width, height, true);
+    if (border != null)
+      rectangle(0, 0, pixelWidth, pixelHeight, border);
+  }
+
+  /**
+   * This constructor takes in a width and height, and initializes a flattened matrix of braille dot masks if {@code allocate} is
+   * true. Subclasses that store the mask words elsewhere must override {@link #word(int)}, {@link #update(int,long,long)} and
+   * {@link #clear()}.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   * @param allocate Whether to allocate the {@link #masks} array.
+   */
+  protected Canvas(final int width, final int height, final boolean allocate) {
+    this(width, height, allocate, true);
+  }
+
+  /**
+   * Creates a new {@link Canvas} that allocates the {@link #masks} array if {@code allocate} is true, and the {@link #colors} array if
+   * {@code allocateColors} is true. Subclasses that store the colors elsewhere must also override {@link #plot(int,int,Ansi.Color)},
+   * {@link #pixel(int,int)}, {@link #cell(int,int,int,Ansi.Color)}, {@link #cellColor(int)}, {@link #isPacked()} and
+   * {@link #copy()}.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   * @param allocate Whether to allocate the {@link #masks} array.
+   * @param allocateColors Whether to allocate the {@link #colors} array.
+   */
+  Canvas(final int width, final int height, final boolean allocate, final boolean allocateColors) {
     this.width = width;
     this.pixelWidth = width * 2;
     this.height = height;
     this.pixelHeight = height * 4;
     this.area = width * height;
-    this.screen = new BrailleMap[area];
-    for (int i = 0; i < area; ++i) // [N]
-      screen[i] = new BrailleMap();
-
-    if (border != null) {
-      for (int x = 0; x < pixelWidth; ++x) { // [N]
-        change(x, 0, border);
-        change(x, pixelHeight - 1, border);
-      }
-
-      for (int y = 0; y < pixelHeight; ++y) { // [N]
-        change(0, y, border);
-        change(pixelWidth - 1, y, border);
-      }
-    }
+    this.stride = (width + 7) >>> 3;
+    this.masks = allocate ? new long[stride * height] : null;
+    this.colors = allocateColors ? new Ansi.Color[area] : null;
   }
 
   public Canvas(final int width, final int height) {
@@ -110,18 +200,111 @@ public class Canvas {
     return pixelHeight;
   }
 
+  /**
+   * Returns the mask word at the specified index, which holds the dot masks of 8 consecutive braille characters of a row.
+   *
+   * @param w The index of the mask word.
+   * @return The mask word at the specified index.
+   */
+  protected long word(final int w) {
+    return masks[w];
+  }
+
+  /**
+   * Updates the mask word at the specified index by clearing the bits of {@code clear}, and then setting the bits of {@code set}, and
+   * {@linkplain #invalidate(int) invalidates} the rendered output of its row if the word changed. Subclasses that override this
+   * method without calling it must invalidate the row themselves.
+   *
+   * @param w The index of the mask word.
+   * @param clear The bits to clear.
+   * @param set The bits to set.
+   */
+  protected void update(final int w, final long clear, final long set) {
+    final long prev = masks[w];
+    final long next = prev & ~clear | set;
+    if (next != prev) {
+      masks[w] = next;
+      invalidate(w / stride);
+    }
+  }
+
+  /**
+   * Discards the cached rendered output of the specified row of braille characters, so that it is rendered anew by the next call to
+   * {@link #render(OutputStream)}. Writes to the {@link #colors} array that change the color of a braille character must be followed
+   * by a call to this method, since {@link #update(int,long,long)} only invalidates rows whose dots changed.
+   *
+   * @param row The row of braille characters.
+   */
+  protected void invalidate(final int row) {
+    final byte[][] rendered = this.rendered;
+    if (rendered != null)
+      rendered[row] = null;
+  }
+
+  /**
+   * Discards the cached rendered output of all rows of braille characters.
+   */
+  protected void invalidate() {
+    if (rendered != null)
+      Arrays.fill(rendered, null);
+  }
+
+  /**
+   * Returns whether the braille characters of each row are stored in order in the mask words, which allows {@link #blit} to operate
+   * on whole words.
+   *
+   * @return Whether the braille characters of each row are stored in order in the mask words.
+   */
+  boolean isPacked() {
+    return true;
+  }
+
+  /**
+   * Returns whether distinct rows of braille characters of this canvas can be drawn onto and rendered concurrently, which allows
+   * {@link Scene#draw(Canvas,ForkJoinPool)} and {@link #render(OutputStream,ForkJoinPool)} to work in bands in parallel. Canvases that
+   * share mutable state across rows return {@code false}, and are drawn and rendered on the calling thread.
+   *
+   * @return Whether distinct rows of braille characters of this canvas can be drawn onto and rendered concurrently.
+   */
+  boolean isBanded() {
+    return true;
+  }
+
+  /**
+   * Returns the color of the braille character at the specified index of the flattened screen matrix. The color is only meaningful
+   * if the {@linkplain #mask(int) mask} of the braille character is not 0.
+   *
+   * @param i The index of the braille character.
+   * @return The color of the braille character at the specified index of the flattened screen matrix.
+   */
+  protected Ansi.Color cellColor(final int i) {
+    return colors[i];
+  }
+
+  /**
+   * Returns the dot mask of the braille character at the specified index of the flattened screen matrix.
+   *
+   * @param i The index of the braille character.
+   * @return The dot mask of the braille character at the specified index of the flattened screen matrix.
+   */
+  protected int mask(final int i) {
+    final int row = i / width;
+    final int col = i - row * width;
+    return (int)(word(row * stride + (col >>> 3)) >>> ((col & 7) << 3)) & 0xff;
+  }
+
   /**
    * This method takes in a horizontal and vertical coordinate and returns the value of the activation of said pixel. If true, the
    * pixel is turned on, otherwise it is off.
    *
    * @param x Horizontal coordinate of pixel.
    * @param y Vertical coordinate of pixel.
-   * @return The activation value of the pixel.
+   * @return The activation value of the pixel, which is the color of its braille character if the pixel is activated, or
+   *         {@code null} otherwise.
    */
   public Ansi.Color get(final int x, final int y) {
     checkRange(x, y);
-    final BrailleMap map = screen[((y / 4) * width) + (x / 2)];
-    return map.get(x % 2, y % 4);
+    return pixel(x, y);
   }
 
   /**
@@ -134,8 +317,60 @@ public class Canvas {
    */
   public void change(final int x, final int y, final Ansi.Color color) {
     checkRange(x, y);
-    final BrailleMap map = screen[((y / 4) * width) + (x / 2)];
-    map.change(x % 2, y % 4, color);
+    plot(x, y, color);
+  }
+
+  /**
+   * Applies the specified {@code color} to the pixel at the provided coordinates, without checking the range of the coordinates. A
+   * {@code null} color deactivates the pixel.
+   *
+   * @param x Horizontal coordinate of pixel.
+   * @param y Vertical coordinate of pixel.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on pixel.
+   */
+  protected void plot(final int x, final int y, final Ansi.Color color) {
+    final int col = x >> 1;
+    final int row = y >> 2;
+    final int w = row * stride + (col >>> 3);
+    final long bit = (long)BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | (x & 1)] << ((col & 7) << 3);
+    if (color == null) {
+      update(w, bit, 0);
+    }
+    else {
+      color(row, row * width + col, color);
+      update(w, 0, bit);
+    }
+  }
+
+  /**
+   * Replaces the dot mask and color of the braille character at the provided column and row, without checking the range of the
+   * coordinates.
+   *
+   * @param col The column of the braille character.
+   * @param row The row of the braille character.
+   * @param mask The dot mask, encoded as per {@link BrailleMap#TRANSFORM_MATRIX}.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the braille character.
+   */
+  void cell(final int col, final int row, final int mask, final Ansi.Color color) {
+    final int w = row * stride + (col >>> 3);
+    final int shift = (col & 7) << 3;
+    color(row, row * width + col, color);
+    update(w, 0xffL << shift, (long)mask << shift);
+  }
+
+  /**
+   * Sets the color of the braille character at the specified index of the {@link #colors} array, and invalidates the rendered output
+   * of its row if the color changed.
+   *
+   * @param row The row of the braille character.
+   * @param i The index of the braille character.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the braille character.
+   */
+  void color(final int row, final int i, final Ansi.Color color) {
+    if (colors[i] != color) {
+      colors[i] = color;
+      invalidate(row);
+    }
   }
 
   /**
@@ -163,18 +398,802 @@ public class Canvas {
   }
 
   /**
-   * This method traverses through all the BrailleMap objects that is stored to make up the screen, it then resets all the values in
-   * those sub-matrices.
+   * Applies the specified {@code color} to {@code len} pixels at the coordinates of the provided arrays, starting at {@code offset}.
+   * A {@code null} color deactivates the pixels.
+   * <p>
+   * This is the equivalent of calling:
+   *
+   * <pre>
+   * {@code
+   * setPoints(xs, ys, offset, len, color, Bounds.THROW)
+   * }
+   * </pre>
+   *
+   * @param xs The horizontal coordinates of the pixels.
+   * @param ys The vertical coordinates of the pixels.
+   * @param offset The index of the first pixel.
+   * @param len The number of pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels.
+   * @throws DrawilleException If a pixel falls outside the canvas, in which case no pixel is changed.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code xs} or {@code ys}.
+   * @throws NullPointerException If {@code xs} or {@code ys} is null.
    */
-  public void clear() {
-    for (int i = 0; i < area; ++i) { // [N]
-      screen[i].reset();
+  public void setPoints(final int[] xs, final int[] ys, final int offset, final int len, final Ansi.Color color) {
+    setPoints(xs, ys, offset, len, color, Bounds.THROW);
+  }
+
+  /**
+   * Applies the specified {@code color} to {@code len} pixels at the coordinates of the provided arrays, starting at {@code offset}.
+   * A {@code null} color deactivates the pixels.
+   *
+   * @param xs The horizontal coordinates of the pixels.
+   * @param ys The vertical coordinates of the pixels.
+   * @param offset The index of the first pixel.
+   * @param len The number of pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels.
+   * @param bounds The {@link Bounds} policy for pixels that fall outside the canvas.
+   * @throws DrawilleException If {@code bounds} is {@link Bounds#THROW} and a pixel falls outside the canvas, in which case no pixel
+   *           is changed.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code xs} or {@code ys}.
+   * @throws NullPointerException If {@code xs}, {@code ys} or {@code bounds} is null.
+   */
+  public void setPoints(final int[] xs, final int[] ys, final int offset, final int len, final Ansi.Color color, final Bounds bounds) {
+    final int end = offset + len;
+    if (bounds == Bounds.THROW) {
+      for (int i = offset; i < end; ++i) // [A]
+        if (xs[i] < 0 || ys[i] < 0 || xs[i] >= pixelWidth || ys[i] >= pixelHeight)
+          throw new DrawilleException(xs[i], ys[i]);
+
+      for (int i = offset; i < end; ++i) // [A]
+        plot(xs[i], ys[i], color);
+    }
+    else {
+      for (int i = offset; i < end; ++i) { // [A]
+        final int x = xs[i];
+        final int y = ys[i];
+        if (x >= 0 && y >= 0 && x < pixelWidth && y < pixelHeight)
+          plot(x, y, color);
+      }
     }
   }
 
   /**
-   * This method traverses through all the BrailleMap objects and renders out the sub-matrices by asking for the object's string value
-   * with the getString method. It then prints them all out to the screen by using the overloaded corresponding render method.
+   * Applies the specified {@code color} to {@code len} pixels at the transformed coordinates of the provided arrays, starting at
+   * {@code offset}. The pixel of each point is {@code (round(xs[i] * scaleX + translateX), round(ys[i] * scaleY + translateY))}. A
+   * {@code null} color deactivates the pixels.
+   *
+   * @param xs The horizontal coordinates of the points.
+   * @param ys The vertical coordinates of the points.
+   * @param offset The index of the first point.
+   * @param len The number of points.
+   * @param scaleX The factor by which horizontal coordinates are scaled.
+   * @param translateX The offset added to scaled horizontal coordinates.
+   * @param scaleY The factor by which vertical coordinates are scaled.
+   * @param translateY The offset added to scaled vertical coordinates.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels.
+   * @param bounds The {@link Bounds} policy for pixels that fall outside the canvas (including {@code NaN} coordinates).
+   * @throws DrawilleException If {@code bounds} is {@link Bounds#THROW} and a pixel falls outside the canvas, in which case no pixel
+   *           is changed.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code xs} or {@code ys}.
+   * @throws NullPointerException If {@code xs}, {@code ys} or {@code bounds} is null.
+   */
+  public void setPoints(final double[] xs, final double[] ys, final int offset, final int len, final double scaleX, final double translateX, final double scaleY, final double translateY, final Ansi.Color color, final Bounds bounds) {
+    // Adding 0.5 before truncation rounds to the nearest pixel for all coordinates that pass the range check
+    final double tx = translateX + 0.5;
+    final double ty = translateY + 0.5;
+    final int end = offset + len;
+    if (bounds == Bounds.THROW) {
+      for (int i = offset; i < end; ++i) { // [A]
+        final double x = xs[i] * scaleX + tx;
+        final double y = ys[i] * scaleY + ty;
+        if (!(x >= 0 && y >= 0 && x < pixelWidth && y < pixelHeight))
+          throw new DrawilleException((int)Math.floor(x), (int)Math.floor(y));
+      }
+
+      for (int i = offset; i < end; ++i) // [A]
+        plot((int)(xs[i] * scaleX + tx), (int)(ys[i] * scaleY + ty), color);
+    }
+    else {
+      for (int i = offset; i < end; ++i) { // [A]
+        final double x = xs[i] * scaleX + tx;
+        final double y = ys[i] * scaleY + ty;
+        if (x >= 0 && y >= 0 && x < pixelWidth && y < pixelHeight)
+          plot((int)x, (int)y, color);
+      }
+    }
+  }
+
+  /**
+   * Draws a line from ({@code x1},{@code y1}) to ({@code x2},{@code y2}). Portions of the line that fall outside the canvas are
+   * clipped.
+   *
+   * @param x1 Horizontal coordinate of the start pixel.
+   * @param y1 Vertical coordinate of the start pixel.
+   * @param x2 Horizontal coordinate of the end pixel.
+   * @param y2 Vertical coordinate of the end pixel.
+   */
+  public void line(final int x1, final int y1, final int x2, final int y2) {
+    line(x1, y1, x2, y2, Ansi.Color.DEFAULT);
+  }
+
+  /**
+   * Draws a line from ({@code x1},{@code y1}) to ({@code x2},{@code y2}) with the specified {@code color}, using Bresenham's
+   * algorithm. Portions of the line that fall outside the canvas are clipped once for the whole line, and the pixels that remain are
+   * identical to those of the unclipped line. A {@code null} color deactivates the pixels of the line.
+   *
+   * @param x1 Horizontal coordinate of the start pixel.
+   * @param y1 Vertical coordinate of the start pixel.
+   * @param x2 Horizontal coordinate of the end pixel.
+   * @param y2 Vertical coordinate of the end pixel.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the line.
+   */
+  public void line(final int x1, final int y1, final int x2, final int y2, final Ansi.Color color) {
+    line(x1, y1, x2, y2, color, 0, 0, pixelWidth - 1, pixelHeight - 1);
+  }
+
+  /**
+   * Draws a line from ({@code x1},{@code y1}) to ({@code x2},{@code y2}) with the specified {@code color}, clipped to the inclusive
+   * window of [{@code minX},{@code maxX}] by [{@code minY},{@code maxY}], which must lie within the canvas.
+   */
+  void line(final int x1, final int y1, final int x2, final int y2, final Ansi.Color color, final int minX, final int minY, final int maxX, final int maxY) {
+    // Trivially reject lines with both ends on the same outer side of the window
+    if (x1 < minX && x2 < minX || x1 > maxX && x2 > maxX || y1 < minY && y2 < minY || y1 > maxY && y2 > maxY)
+      return;
+
+    final long dx = (long)x2 - x1;
+    final long dy = (long)y2 - y1;
+    if (Math.abs(dx) >= Math.abs(dy)) {
+      if (dx == 0)
+        plot(x1, y1, color);
+      else
+        line(x1, y1, dx < 0 ? -1 : 1, dy < 0 ? -1 : 1, Math.abs(dx), Math.abs(dy), minX, maxX, minY, maxY, false, color);
+    }
+    else {
+      line(y1, x1, dy < 0 ? -1 : 1, dx < 0 ? -1 : 1, Math.abs(dy), Math.abs(dx), minY, maxY, minX, maxX, true, color);
+    }
+  }
+
+  /**
+   * Draws a line along its major axis {@code a}, where the minor axis {@code b} at step {@code k} is
+   * {@code b1 + sb * floor((2 * k * db + da) / (2 * da))}. This closed form allows the range of steps that fall within the window to
+   * be computed up front, so the loop itself needs no range checks.
+   */
+  private void line(final int a1, final int b1, final int sa, final int sb, final long da, final long db, final int minA, final int maxA, final int minB, final int maxB, final boolean steep, final Ansi.Color color) {
+    long kMin = 0;
+    long kMax = da;
+
+    // Clip the major axis
+    kMin = Math.max(kMin, sa > 0 ? (long)minA - a1 : (long)a1 - maxA);
+    kMax = Math.min(kMax, sa > 0 ? (long)maxA - a1 : (long)a1 - minA);
+
+    // Clip the minor axis, where mLo <= (b - b1) * sb <= mHi
+    final long mLo = sb > 0 ? (long)minB - b1 : (long)b1 - maxB;
+    final long mHi = sb > 0 ? (long)maxB - b1 : (long)b1 - minB;
+    final long den = 2 * da;
+    final long inc = 2 * db;
+    if (db == 0) {
+      if (mLo > 0 || mHi < 0)
+        return;
+    }
+    else {
+      if (mLo > 0)
+        kMin = Math.max(kMin, -floorMulDiv(1 - 2 * mLo, da, 0, inc));
+
+      if (mHi < db)
+        kMax = Math.min(kMax, floorMulDiv(2 * mHi + 1, da, -1, inc));
+    }
+
+    if (kMin > kMax)
+      return;
+
+    // The quotient and remainder of (kMin * inc + da) / den, of which the remainder is exact despite wrapping since it is less than den
+    final long q = floorMulDiv(kMin, inc, da, den);
+    long r = kMin * inc + da - q * den;
+    int a = a1 + sa * (int)kMin;
+    int b = b1 + sb * (int)q;
+    for (long k = kMin; k <= kMax; ++k, a += sa) { // [N]
+      if (steep)
+        plot(b, a, color);
+      else
+        plot(a, b, color);
+
+      if ((r += inc) >= den) {
+        r -= den;
+        b += sb;
+      }
+    }
+  }
+
+  /**
+   * Returns {@code floor((a * b + c) / d)} for a positive {@code d}, computed exactly even if {@code a * b} overflows {@code long},
+   * which happens for lines whose endpoints span more than about 1.5e9 pixels.
+   */
+  private static long floorMulDiv(final long a, final long b, final long c, final long d) {
+    if (Math.abs(a) < 1L << 31 && Math.abs(b) < 1L << 31 && Math.abs(c) < 1L << 61)
+      return Math.floorDiv(a * b + c, d);
+
+    final BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).add(BigInteger.valueOf(c)).divideAndRemainder(BigInteger.valueOf(d));
+    return qr[1].signum() < 0 ? qr[0].longValue() - 1 : qr[0].longValue();
+  }
+
+  /**
+   * Draws connected lines between {@code len} consecutive points of the provided coordinate arrays, starting at {@code offset}.
+   * Portions of the lines that fall outside the canvas are clipped.
+   *
+   * @param xs The horizontal coordinates of the points.
+   * @param ys The vertical coordinates of the points.
+   * @param offset The index of the first point.
+   * @param len The number of points.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the lines.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code xs} or {@code ys}.
+   * @throws NullPointerException If {@code xs} or {@code ys} is null.
+   */
+  public void polyline(final int[] xs, final int[] ys, final int offset, final int len, final Ansi.Color color) {
+    if (len == 1)
+      line(xs[offset], ys[offset], xs[offset], ys[offset], color);
+
+    for (int i = offset + 1, i$ = offset + len; i < i$; ++i) // [A]
+      line(xs[i - 1], ys[i - 1], xs[i], ys[i], color);
+  }
+
+  /**
+   * Draws the outline of the rectangle with its top left pixel at ({@code x},{@code y}), spanning {@code width} by {@code height}
+   * pixels. Portions of the rectangle that fall outside the canvas are clipped.
+   *
+   * @param x Horizontal coordinate of the top left pixel.
+   * @param y Vertical coordinate of the top left pixel.
+   * @param width The width of the rectangle in pixels.
+   * @param height The height of the rectangle in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   */
+  public void rectangle(final int x, final int y, final int width, final int height, final Ansi.Color color) {
+    if (width <= 0 || height <= 0)
+      return;
+
+    final int x2 = x + width - 1;
+    final int y2 = y + height - 1;
+    line(x, y, x2, y, color);
+    line(x, y2, x2, y2, color);
+    line(x, y, x, y2, color);
+    line(x2, y, x2, y2, color);
+  }
+
+  /**
+   * Draws the outline of the circle centered at ({@code cx},{@code cy}) with the specified {@code radius}, using the midpoint circle
+   * algorithm. Portions of the circle that fall outside the canvas are clipped.
+   *
+   * @param cx Horizontal coordinate of the center pixel.
+   * @param cy Vertical coordinate of the center pixel.
+   * @param radius The radius in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   */
+  public void circle(final int cx, final int cy, final int radius, final Ansi.Color color) {
+    circle(cx, cy, radius, color, 0, 0, pixelWidth - 1, pixelHeight - 1);
+  }
+
+  /**
+   * Draws the outline of the circle centered at ({@code cx},{@code cy}) with the specified {@code radius}, clipped to the inclusive
+   * window of [{@code minX},{@code maxX}] by [{@code minY},{@code maxY}], which must lie within the canvas.
+   */
+  void circle(final int cx, final int cy, final int radius, final Ansi.Color color, final int minX, final int minY, final int maxX, final int maxY) {
+    if (radius < 0 || isOutside(cx, cy, radius, radius, minX, minY, maxX, maxY))
+      return;
+
+    final boolean inside = isInside(cx, cy, radius, radius, minX, minY, maxX, maxY);
+    int x = radius;
+    int y = 0;
+    int err = 1 - radius;
+    while (x >= y) {
+      plot4(cx, cy, x, y, color, inside, minX, minY, maxX, maxY);
+      plot4(cx, cy, y, x, color, inside, minX, minY, maxX, maxY);
+      ++y;
+      if (err < 0) {
+        err += 2 * y + 1;
+      }
+      else {
+        --x;
+        err += 2 * (y - x) + 1;
+      }
+    }
+  }
+
+  /** Largest radius of an ellipse, for which the decision variables of the midpoint ellipse algorithm remain within a {@code long} */
+  static final int MAX_RADIUS = 1 << 19;
+
+  /**
+   * Draws the outline of the axis-aligned ellipse centered at ({@code cx},{@code cy}) with the specified radii, using the midpoint
+   * ellipse algorithm. Portions of the ellipse that fall outside the canvas are clipped.
+   *
+   * @param cx Horizontal coordinate of the center pixel.
+   * @param cy Vertical coordinate of the center pixel.
+   * @param rx The horizontal radius in pixels.
+   * @param ry The vertical radius in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   * @throws IllegalArgumentException If {@code rx} or {@code ry} is greater than 524288 (2<sup>19</sup>).
+   */
+  public void ellipse(final int cx, final int cy, final int rx, final int ry, final Ansi.Color color) {
+    checkRadius(rx, "rx");
+    checkRadius(ry, "ry");
+    ellipse(cx, cy, rx, ry, color, 0, 0, pixelWidth - 1, pixelHeight - 1);
+  }
+
+  static void checkRadius(final int radius, final String name) {
+    if (radius > MAX_RADIUS)
+      throw new IllegalArgumentException(name + " (" + radius + ") > " + MAX_RADIUS);
+  }
+
+  /**
+   * Draws the outline of the axis-aligned ellipse centered at ({@code cx},{@code cy}) with the specified radii, clipped to the
+   * inclusive window of [{@code minX},{@code maxX}] by [{@code minY},{@code maxY}], which must lie within the canvas.
+   */
+  void ellipse(final int cx, final int cy, final int rx, final int ry, final Ansi.Color color, final int minX, final int minY, final int maxX, final int maxY) {
+    if (rx < 0 || ry < 0 || isOutside(cx, cy, rx, ry, minX, minY, maxX, maxY))
+      return;
+
+    if (rx == 0 || ry == 0) {
+      line(cx - rx, cy - ry, cx + rx, cy + ry, color, minX, minY, maxX, maxY);
+      return;
+    }
+
+    final boolean inside = isInside(cx, cy, rx, ry, minX, minY, maxX, maxY);
+    final long rx2 = (long)rx * rx;
+    final long ry2 = (long)ry * ry;
+    int x = 0;
+    int y = ry;
+    long px = 0;
+    long py = 2 * rx2 * y;
+
+    // Region 1, where the slope is shallower than -1 (decision variables are scaled by 4 to remain integral)
+    long p = 4 * ry2 - 4 * rx2 * ry + rx2;
+    while (px < py) {
+      plot4(cx, cy, x, y, color, inside, minX, minY, maxX, maxY);
+      ++x;
+      px += 2 * ry2;
+      if (p < 0) {
+        p += 4 * (ry2 + px);
+      }
+      else {
+        --y;
+        py -= 2 * rx2;
+        p += 4 * (ry2 + px - py);
+      }
+    }
+
+    // Region 2, where the slope is steeper than -1, with the decision variable moved from (x + 1, y - 1/2) to (x + 1/2, y - 1), since
+    // evaluating it anew takes terms of the fourth power of the radii, which overflow a long
+    p += rx2 * (3 - 4L * y) - ry2 * (4L * x + 3);
+    while (y >= 0) {
+      plot4(cx, cy, x, y, color, inside, minX, minY, maxX, maxY);
+      --y;
+      py -= 2 * rx2;
+      if (p > 0) {
+        p += 4 * (rx2 - py);
+      }
+      else {
+        ++x;
+        px += 2 * ry2;
+        p += 4 * (rx2 - py + px);
+      }
+    }
+  }
+
+  private static boolean isOutside(final long cx, final long cy, final long rx, final long ry, final int minX, final int minY, final int maxX, final int maxY) {
+    return cx + rx < minX || cx - rx > maxX || cy + ry < minY || cy - ry > maxY;
+  }
+
+  private static boolean isInside(final long cx, final long cy, final long rx, final long ry, final int minX, final int minY, final int maxX, final int maxY) {
+    return cx - rx >= minX && cx + rx <= maxX && cy - ry >= minY && cy + ry <= maxY;
+  }
+
+  private void plot4(final int cx, final int cy, final int x, final int y, final Ansi.Color color, final boolean inside, final int minX, final int minY, final int maxX, final int maxY) {
+    plot(cx + x, cy + y, color, inside, minX, minY, maxX, maxY);
+    plot(cx - x, cy + y, color, inside, minX, minY, maxX, maxY);
+    plot(cx + x, cy - y, color, inside, minX, minY, maxX, maxY);
+    plot(cx - x, cy - y, color, inside, minX, minY, maxX, maxY);
+  }
+
+  private void plot(final int x, final int y, final Ansi.Color color, final boolean inside, final int minX, final int minY, final int maxX, final int maxY) {
+    if (inside || x >= minX && y >= minY && x <= maxX && y <= maxY)
+      plot(x, y, color);
+  }
+
+  /**
+   * Fills the polygon with {@code len} vertices of the provided coordinate arrays, starting at {@code offset}, including its outline.
+   * The interior is determined by the even-odd rule, and is filled one pixel row at a time, with each run of pixels between a pair
+   * of edges written into the packed mask words at once. Portions of the polygon that fall outside the canvas are clipped.
+   *
+   * @param xs The horizontal coordinates of the vertices.
+   * @param ys The vertical coordinates of the vertices.
+   * @param offset The index of the first vertex.
+   * @param len The number of vertices.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the polygon, or {@code null} to deactivate them.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code xs} or {@code ys}.
+   * @throws NullPointerException If {@code xs} or {@code ys} is null.
+   */
+  public void fillPolygon(final int[] xs, final int[] ys, final int offset, final int len, final Ansi.Color color) {
+    if (len <= 0)
+      return;
+
+    // Edges sorted by their first scanline, keyed by (minY << 32 | edge), where edge i runs from vertex i to vertex i + 1
+    final long[] edges = new long[len];
+    int count = 0;
+    int minY = Integer.MAX_VALUE;
+    int maxY = Integer.MIN_VALUE;
+    for (int i = 0; i < len; ++i) { // [A]
+      final int y1 = ys[offset + i];
+      final int y2 = ys[offset + (i + 1) % len];
+      if (y1 != y2)
+        edges[count++] = (long)Math.min(y1, y2) << 32 | i;
+
+      minY = Math.min(minY, y1);
+      maxY = Math.max(maxY, y1);
+    }
+
+    Arrays.sort(edges, 0, count);
+    final int[] active = new int[count];
+    final double[] crossings = new double[count];
+    int size = 0;
+    int next = 0;
+    for (int y = Math.max(0, minY), y$ = Math.min(pixelHeight - 1, maxY); y <= y$; ++y) { // [N]
+      // Activate the edges that start on or above this scanline, and retire the edges that end on or above it
+      for (; next < count && (int)(edges[next] >> 32) <= y; ++next) // [A]
+        active[size++] = (int)edges[next];
+
+      int crossed = 0;
+      for (int a = 0; a < size; ++a) { // [A]
+        final int i = offset + active[a];
+        final int j = offset + (active[a] + 1) % len;
+        final int y1 = ys[i];
+        final int y2 = ys[j];
+        if (y >= Math.max(y1, y2)) {
+          active[a--] = active[--size];
+          continue;
+        }
+
+        // The edge covers the scanline on [min(y1, y2), max(y1, y2))
+        if (y >= Math.min(y1, y2)) {
+          final double x = xs[i] + (double)(y - y1) * (xs[j] - xs[i]) / (y2 - y1);
+          int k = crossed++;
+          for (; k > 0 && crossings[k - 1] > x; --k) // [A]
+            crossings[k] = crossings[k - 1];
+
+          crossings[k] = x;
+        }
+      }
+
+      for (int k = 0; k + 1 < crossed; k += 2) { // [A]
+        final int x1 = Math.max(0, (int)Math.ceil(crossings[k]));
+        final int x2 = Math.min(pixelWidth - 1, (int)Math.floor(crossings[k + 1]));
+        if (x1 <= x2)
+          span(x1, x2, y, color);
+      }
+    }
+
+    polyline(xs, ys, offset, len, color);
+    line(xs[offset + len - 1], ys[offset + len - 1], xs[offset], ys[offset], color);
+  }
+
+  /**
+   * Fills the 4-connected region of deactivated pixels that contains ({@code x},{@code y}), bounded by activated pixels and the edges
+   * of the canvas. The region is filled one run of pixels at a time, with each run written into the packed mask words at once, and
+   * the runs that remain to be filled are held on an explicit stack rather than on the call stack. If the pixel at
+   * ({@code x},{@code y}) is activated, this method does nothing.
+   *
+   * @param x Horizontal coordinate of the seed pixel.
+   * @param y Vertical coordinate of the seed pixel.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the region.
+   * @throws DrawilleException If the coordinates are outside the canvas.
+   * @throws NullPointerException If {@code color} is null.
+   */
+  public void fill(final int x, final int y, final Ansi.Color color) {
+    checkRange(x, y);
+    if (color == null)
+      throw new NullPointerException("color == null");
+
+    // Stack of seed pixels, as pairs of coordinates
+    int[] stack = new int[64];
+    int size = 0;
+    stack[size++] = x;
+    stack[size++] = y;
+    while (size > 0) {
+      final int sy = stack[--size];
+      int x1 = stack[--size];
+      if (pixel(x1, sy) != null)
+        continue;
+
+      int x2 = x1;
+      while (x1 > 0 && pixel(x1 - 1, sy) == null)
+        --x1;
+
+      while (x2 < pixelWidth - 1 && pixel(x2 + 1, sy) == null)
+        ++x2;
+
+      span(x1, x2, sy, color);
+
+      // Push the first pixel of each run of deactivated pixels above and below the span
+      for (int ny = sy - 1; ny <= sy + 1; ny += 2) { // [N]
+        if (ny < 0 || ny >= pixelHeight)
+          continue;
+
+        boolean inRun = false;
+        for (int nx = x1; nx <= x2; ++nx) { // [N]
+          final boolean empty = pixel(nx, ny) == null;
+          if (empty && !inRun) {
+            if (size + 2 > stack.length)
+              stack = Arrays.copyOf(stack, stack.length * 2);
+
+            stack[size++] = nx;
+            stack[size++] = ny;
+          }
+
+          inRun = empty;
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies the specified {@code color} to the run of pixels from {@code x1} to {@code x2} (inclusive) of pixel row {@code y},
+   * without checking the range of the coordinates. If the braille characters are stored in order in the mask words, the run is
+   * written 8 braille characters at a time, with the dots of the braille characters at either end that fall outside the run masked
+   * out. A {@code null} color deactivates the pixels.
+   *
+   * @param x1 Horizontal coordinate of the first pixel.
+   * @param x2 Horizontal coordinate of the last pixel.
+   * @param y Vertical coordinate of the pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels.
+   */
+  void span(final int x1, final int x2, final int y, final Ansi.Color color) {
+    if (!isPacked()) {
+      for (int x = x1; x <= x2; ++x) // [N]
+        plot(x, y, color);
+
+      return;
+    }
+
+    final int row = y >> 2;
+    final int col0 = x1 >> 1;
+    final int col1 = x2 >> 1;
+    final long left = BrailleMap.TRANSFORM_MATRIX[(y & 3) << 1];
+    final long right = BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | 1];
+    if (color != null)
+      for (int i = row * width + col0, i$ = row * width + col1; i <= i$; ++i) // [A]
+        color(row, i, color);
+
+    for (int w = col0 >>> 3, w$ = col1 >>> 3; w <= w$; ++w) { // [N]
+      final int first = w << 3;
+      long m = 0x0101010101010101L * (left | right);
+      if (first < col0)
+        m &= -1L << ((col0 - first) << 3);
+
+      if (col1 - first < 7)
+        m &= -1L >>> ((7 - (col1 - first)) << 3);
+
+      if ((x1 & 1) == 1 && (col0 >>> 3) == w)
+        m &= ~(left << ((col0 & 7) << 3));
+
+      if ((x2 & 1) == 0 && (col1 >>> 3) == w)
+        m &= ~(right << ((col1 & 7) << 3));
+
+      if (color == null)
+        update(row * stride + w, m, 0);
+      else
+        update(row * stride + w, 0, m);
+    }
+  }
+
+  /** Dot masks of each pixel row of a braille character */
+  private static final int[] ROW_MASKS = {0x09, 0x12, 0x24, 0xc0};
+
+  /** Dot mask of the left pixel column of a braille character */
+  private static final int LEFT_MASK = 0x47;
+
+  /** Dot mask of the right pixel column of a braille character */
+  private static final int RIGHT_MASK = 0xb8;
+
+  /**
+   * Returns the dot mask of the pixel rows from {@code from} to {@code to} (inclusive) of a braille character.
+   *
+   * @param from The first pixel row, from 0 to 3.
+   * @param to The last pixel row, from 0 to 3.
+   * @return The dot mask of the pixel rows from {@code from} to {@code to} (inclusive) of a braille character.
+   */
+  static int rowMask(final int from, final int to) {
+    int mask = 0;
+    for (int y = from; y <= to; ++y) // [N]
+      mask |= ROW_MASKS[y];
+
+    return mask;
+  }
+
+  /**
+   * Copies the rectangle of {@code width} by {@code height} pixels with its top left pixel at ({@code sx},{@code sy}) of the
+   * {@code src} canvas onto this canvas with its top left pixel at ({@code dx},{@code dy}), combining the pixels with the specified
+   * {@link Op}. Portions of the rectangle that fall outside either canvas are clipped. Each braille character that receives pixels
+   * from {@code src} takes the color of its source braille character, except for {@link Op#AND}, which retains the colors of this
+   * canvas.
+   * <p>
+   * If the offsets between the source and destination pixels are a multiple of the braille character dimensions (2 by 4 pixels), the
+   * copy is performed 8 braille characters at a time on the packed mask words, with the pixels of braille characters that are cut by
+   * the edges of the rectangle masked out. Otherwise, the copy is performed pixel by pixel on the mask words. If {@code src} is this
+   * canvas, or a canvas whose columns are not stored in order, the source pixels are copied before they are combined.
+   *
+   * @param src The source {@link Canvas}.
+   * @param sx Horizontal coordinate of the top left pixel of the source rectangle.
+   * @param sy Vertical coordinate of the top left pixel of the source rectangle.
+   * @param width The width of the rectangle in pixels.
+   * @param height The height of the rectangle in pixels.
+   * @param dx Horizontal coordinate of the top left pixel of the destination rectangle.
+   * @param dy Vertical coordinate of the top left pixel of the destination rectangle.
+   * @param op The {@link Op} by which to combine source pixels with destination pixels.
+   * @throws NullPointerException If {@code src} or {@code op} is null.
+   */
+  public void blit(final Canvas src, final int sx, final int sy, final int width, final int height, final int dx, final int dy, final Op op) {
+    if (op == null)
+      throw new NullPointerException("op == null");
+
+    // Clip to the source and destination canvases
+    final int clipX = Math.max(0, Math.max(-sx, -dx));
+    final int clipY = Math.max(0, Math.max(-sy, -dy));
+    final int fromX = sx + clipX;
+    final int fromY = sy + clipY;
+    final int toX = dx + clipX;
+    final int toY = dy + clipY;
+    final int w = Math.min(width - clipX, Math.min(src.pixelWidth - fromX, pixelWidth - toX));
+    final int h = Math.min(height - clipY, Math.min(src.pixelHeight - fromY, pixelHeight - toY));
+    if (w <= 0 || h <= 0)
+      return;
+
+    final Canvas from = src == this || !src.isPacked() ? src.copy() : src;
+    if (((fromX - toX) & 1) == 0 && ((fromY - toY) & 3) == 0 && isPacked() && from.isPacked())
+      blitCells(from, (fromX - toX) >> 1, (fromY - toY) >> 2, toX, toY, toX + w - 1, toY + h - 1, op);
+    else
+      blitPixels(from, fromX, fromY, w, h, toX, toY, op);
+  }
+
+  private void blitCells(final Canvas src, final int colOffset, final int rowOffset, final int minX, final int minY, final int maxX, final int maxY, final Op op) {
+    final int col0 = minX >> 1;
+    final int col1 = maxX >> 1;
+    final int row0 = minY >> 2;
+    final int row1 = maxY >> 2;
+    for (int row = row0; row <= row1; ++row) { // [N]
+      final long rowMask = 0x0101010101010101L * rowMask(row == row0 ? minY & 3 : 0, row == row1 ? maxY & 3 : 3);
+      final int srcRow = row + rowOffset;
+      for (int w = col0 >>> 3, w$ = col1 >>> 3; w <= w$; ++w) { // [N]
+        final int first = w << 3;
+
+        // Mask of the dots within the rectangle
+        long m = rowMask;
+        if (first < col0)
+          m &= -1L << ((col0 - first) << 3);
+
+        if (col1 - first < 7)
+          m &= -1L >>> ((7 - (col1 - first)) << 3);
+
+        if ((minX & 1) == 1 && (col0 >>> 3) == w)
+          m &= ~((long)LEFT_MASK << ((col0 & 7) << 3));
+
+        if ((maxX & 1) == 0 && (col1 >>> 3) == w)
+          m &= ~((long)RIGHT_MASK << ((col1 & 7) << 3));
+
+        final long s = src.words(srcRow, first + colOffset) & m;
+
+        // Take the colors of the source braille characters that contribute dots, before their dots are updated
+        if (op != Op.AND) {
+          for (long bytes = s; bytes != 0;) { // [N]
+            final int k = Long.numberOfTrailingZeros(bytes) >>> 3;
+            color(row, row * width + first + k, src.colors[srcRow * src.width + first + k + colOffset]);
+            bytes &= ~(0xffL << (k << 3));
+          }
+        }
+
+        final int i = row * stride + w;
+        switch (op) {
+          case AND:
+            update(i, ~s & m, 0);
+            break;
+          case OR:
+            update(i, 0, s);
+            break;
+          case REPLACE:
+            update(i, m, s);
+            break;
+          case XOR:
+            final long v = word(i);
+            update(i, v & s, ~v & s);
+            break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the dot masks of the 8 consecutive braille characters of the specified row, starting at column {@code col}, aligned to a
+   * mask word. Columns outside the canvas have no dots.
+   */
+  private long words(final int row, final int col) {
+    final int q = col >> 3;
+    final int shift = (col & 7) << 3;
+    final int i = row * stride;
+    final long lo = q >= 0 && q < stride ? word(i + q) : 0;
+    if (shift == 0)
+      return lo;
+
+    final long hi = q + 1 >= 0 && q + 1 < stride ? word(i + q + 1) : 0;
+    return lo >>> shift | hi << (64 - shift);
+  }
+
+  private void blitPixels(final Canvas src, final int sx, final int sy, final int width, final int height, final int dx, final int dy, final Op op) {
+    for (int y = 0; y < height; ++y) { // [N]
+      for (int x = 0; x < width; ++x) { // [N]
+        final Ansi.Color color = src.pixel(sx + x, sy + y);
+        final int px = dx + x;
+        final int py = dy + y;
+        switch (op) {
+          case AND:
+            if (color == null)
+              plot(px, py, null);
+
+            break;
+          case OR:
+            if (color != null)
+              plot(px, py, color);
+
+            break;
+          case REPLACE:
+            plot(px, py, color);
+            break;
+          case XOR:
+            if (color != null)
+              plot(px, py, pixel(px, py) == null ? color : null);
+
+            break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the color of the pixel at the provided coordinates, or {@code null} if the pixel is not activated, without checking the
+   * range of the coordinates.
+   *
+   * @param x Horizontal coordinate of pixel.
+   * @param y Vertical coordinate of pixel.
+   * @return The color of the pixel at the provided coordinates, or {@code null} if the pixel is not activated.
+   */
+  protected Ansi.Color pixel(final int x, final int y) {
+    final int col = x >> 1;
+    final int row = y >> 2;
+    final long bit = (long)BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | (x & 1)] << ((col & 7) << 3);
+    return (word(row * stride + (col >>> 3)) & bit) == 0 ? null : colors[row * width + col];
+  }
+
+  /**
+   * Returns a new {@link Canvas} with a copy of the pixels of this canvas.
+   *
+   * @return A new {@link Canvas} with a copy of the pixels of this canvas.
+   */
+  public Canvas copy() {
+    final Canvas copy = new Canvas(width, height);
+    for (int i = 0, i$ = copy.masks.length; i < i$; ++i) // [A]
+      copy.masks[i] = word(i);
+
+    System.arraycopy(colors, 0, copy.colors, 0, area);
+    return copy;
+  }
+
+  /**
+   * This method deactivates all the pixels of the canvas.
+   */
+  public void clear() {
+    Arrays.fill(masks, 0);
+    Arrays.fill(colors, null);
+    invalidate();
+  }
+
+  /**
+   * This method traverses through all the braille characters and renders them out. It then prints them all out to the screen by using
+   * the overloaded corresponding render method.
    */
   public void render() {
     try {
@@ -186,38 +1205,250 @@ public class Canvas {
   }
 
   /**
-   * This method traverses through all the BrailleMap objects and renders out the sub-matrices by asking for the object's string value
-   * with the getString method. It then writes said output to the specified ByteArrayOutputStream. This stream is then returned back
-   * to caller for method chaining.
+   * This method traverses through all the braille characters and renders them out. It then writes said output to the specified
+   * OutputStream. This stream is then returned back to caller for method chaining.
+   * <p>
+   * The rendered output of each row of braille characters is cached until a pixel of the row changes, so that only the rows that
+   * changed since the previous call are rendered anew, and the output of the others is written as is. Rendering must therefore not
+   * run concurrently with changes to the canvas.
    *
    * @param out Stream to write to.
    * @return Same stream that was passed in.
    * @throws IOException If an I/O error has occurred.
    */
   public OutputStream render(final OutputStream out) throws IOException {
-    for (int i = 0; i < area; ++i) { // [N]
-      out.write(screen[i].toString().getBytes());
-      if (i % width == width - 1)
-        out.write('\n');
+    return render0(out, null);
+  }
+
+  /**
+   * This method renders out the changed rows of braille characters in bands in parallel on the specified {@link ForkJoinPool}, and
+   * writes the output of all rows to the specified OutputStream in order. The output is identical to that of
+   * {@link #render(OutputStream)}. This stream is then returned back to caller for method chaining. Canvases whose rows cannot be
+   * rendered concurrently, such as a {@link SparseCanvas}, are rendered on the calling thread.
+   *
+   * @param out Stream to write to.
+   * @param pool The {@link ForkJoinPool} on which to render the bands.
+   * @return Same stream that was passed in.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code pool} is null.
+   */
+  public OutputStream render(final OutputStream out, final ForkJoinPool pool) throws IOException {
+    if (pool == null)
+      throw new NullPointerException("pool == null");
+
+    return render0(out, pool);
+  }
+
+  /**
+   * Renders anew the rows of braille characters that changed since they were last rendered, in bands on the specified
+   * {@link ForkJoinPool} if it is not null, and writes the output of all rows to the specified OutputStream in order. If
+   * {@linkplain Instrumentation#getListener() instrumentation} is enabled, the cells rendered anew are counted as they are rendered.
+   */
+  private OutputStream render0(final OutputStream out, final ForkJoinPool pool) throws IOException {
+    final Instrumentation.Listener listener = Instrumentation.getListener();
+    if (listener == null)
+      return render0(out, pool, null);
+
+    listener.onBegin(Instrumentation.Source.CANVAS);
+    try {
+      return render0(out, pool, listener);
+    }
+    catch (final IOException | RuntimeException | Error e) {
+      listener.onAbort(Instrumentation.Source.CANVAS);
+      throw e;
+    }
+  }
+
+  private OutputStream render0(final OutputStream out, final ForkJoinPool pool, final Instrumentation.Listener listener) throws IOException {
+    if (rendered == null)
+      rendered = new byte[height][];
+
+    final long start = listener == null ? 0 : System.nanoTime();
+    long counts = pool != null && isBanded() ? render(pool) : 0;
+    final long layoutEnd = listener == null ? 0 : System.nanoTime();
+    long output = 0;
+    for (int row = 0; row < height; ++row) { // [N]
+      if (rendered[row] == null)
+        counts += render(row);
+
+      final byte[] bytes = rendered[row];
+      out.write(bytes);
+      output += bytes.length;
     }
 
+    if (listener != null)
+      listener.onRender(Instrumentation.Source.CANVAS, (counts >>> 32) * width, height, (counts & 0xffffffffL) * 2, output, 0, layoutEnd - start, System.nanoTime() - layoutEnd);
+
+    return out;
+  }
+
+  /**
+   * Renders anew the rows of braille characters that changed since they were last rendered, in bands in parallel on the specified
+   * {@link ForkJoinPool}, and returns their counts as per {@link #render(int)}.
+   */
+  private long render(final ForkJoinPool pool) {
+    final int rows = bandRows(pool.getParallelism());
+    final ArrayList<ForkJoinTask<Long>> bands = new ArrayList<>((height + rows - 1) / rows);
+    for (int row = 0; row < height; row += rows) { // [N]
+      final int from = row;
+      final int to = Math.min(height, row + rows);
+      bands.add(pool.submit(() -> {
+        long counts = 0;
+        for (int r = from; r < to; ++r) // [N]
+          if (rendered[r] == null)
+            counts += render(r);
+
+        return counts;
+      }));
+    }
+
+    long counts = 0;
+    for (int i = 0, i$ = bands.size(); i < i$; ++i) // [RA]
+      counts += bands.get(i).join();
+
+    return counts;
+  }
+
+  /**
+   * Returns the number of rows of braille characters per band, such that each thread of a pool with the specified parallelism has
+   * several bands to work on. If this canvas is not {@linkplain #isBanded() banded}, all rows form a single band.
+   *
+   * @param parallelism The parallelism of the pool.
+   * @return The number of rows of braille characters per band.
+   */
+  int bandRows(final int parallelism) {
+    if (!isBanded())
+      return Math.max(1, height);
+
+    final int bands = Math.max(1, parallelism) * 4;
+    return Math.max(1, (height + bands - 1) / bands);
+  }
+
+  /**
+   * Renders anew the specified row of braille characters, and returns 1 in the upper 32 bits plus the number of its braille characters
+   * that are rendered with a color, each of which is enclosed in 2 ANSI escape sequences, so that the counts of rows sum directly.
+   */
+  private long render(final int row) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(width * 3 + 1);
+    int colored = 0;
+    for (int i = row * width, i$ = i + width; i < i$; ++i) { // [N]
+      final int mask = mask(i);
+      final Ansi.Color color = mask == 0 ? null : cellColor(i);
+      if (color != null)
+        ++colored;
+
+      final byte[] cell = BrailleMap.toString(mask, color).getBytes();
+      out.write(cell, 0, cell.length);
+    }
+
+    out.write('\n');
+    rendered[row] = out.toByteArray();
+    return 1L << 32 | colored;
+  }
+
+  /**
+   * Writes the braille characters of the canvas as HTML to the specified {@link Writer}, reading the dot masks and colors directly,
+   * with 1 line per row of braille characters. Consecutive braille characters of the same color are coalesced into a single
+   * {@code <span>} with the same style as that of {@link Ansi#toHtml(CharSequence)}, and braille characters without dots continue the
+   * current span. The output is meant to be enclosed in a {@code <pre>} element. This writer is then returned back to caller for
+   * method chaining.
+   *
+   * @param out The {@link Writer} to write to.
+   * @return Same writer that was passed in.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public Writer toHtml(final Writer out) throws IOException {
+    Ansi.Color span = null;
+    for (int row = 0, i = 0; row < height; ++row) { // [N]
+      for (int col = 0; col < width; ++col, ++i) { // [N]
+        final int mask = mask(i);
+        if (mask != 0) {
+          Ansi.Color color = cellColor(i);
+          if (color == Ansi.Color.DEFAULT)
+            color = null;
+
+          if (color != span) {
+            if (span != null)
+              out.write("</span>");
+
+            if (color != null)
+              out.append("<span style=\"").append(color.toCSS()).append(";\">");
+
+            span = color;
+          }
+        }
+
+        out.write(0x2800 + mask);
+      }
+
+      out.write('\n');
+    }
+
+    if (span != null)
+      out.write("</span>");
+
+    return out;
+  }
+
+  /**
+   * Writes the activated pixels of the canvas as an SVG document to the specified {@link Writer}, reading the dot masks and colors
+   * directly. Each pixel is 1 unit of the SVG coordinate space, and pixels of the default color are filled with
+   * {@code currentColor}. This writer is then returned back to caller for method chaining.
+   *
+   * @param out The {@link Writer} to write to.
+   * @param shape The {@link Shape} with which to draw activated pixels.
+   * @return Same writer that was passed in.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} or {@code shape} is null.
+   */
+  public Writer toSvg(final Writer out, final Shape shape) throws IOException {
+    if (shape == null)
+      throw new NullPointerException("shape == null");
+
+    out.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(String.valueOf(pixelWidth)).append("\" height=\"").append(String.valueOf(pixelHeight)).append("\" viewBox=\"0 0 ").append(String.valueOf(pixelWidth)).append(' ').append(String.valueOf(pixelHeight)).append("\">\n");
+    for (int y = 0; y < pixelHeight; ++y) { // [N]
+      final int offset = (y >> 2) * width;
+      final int left = BrailleMap.TRANSFORM_MATRIX[(y & 3) << 1];
+      final int right = BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | 1];
+      Ansi.Color run = null;
+      int start = 0;
+      for (int x = 0; x <= pixelWidth; ++x) { // [N]
+        Ansi.Color color = null;
+        if (x < pixelWidth) {
+          final int mask = mask(offset + (x >> 1));
+          if ((mask & ((x & 1) == 0 ? left : right)) != 0) {
+            color = cellColor(offset + (x >> 1));
+            if (color == null)
+              color = Ansi.Color.DEFAULT;
+          }
+        }
+
+        if (shape == Shape.DOTS) {
+          if (color != null)
+            out.append("<circle cx=\"").append(String.valueOf(x)).append(".5\" cy=\"").append(String.valueOf(y)).append(".5\" r=\"0.4\" fill=\"").append(FILLS[color.ordinal()]).append("\"/>\n");
+        }
+        else if (color != run) {
+          if (run != null)
+            out.append("<rect x=\"").append(String.valueOf(start)).append("\" y=\"").append(String.valueOf(y)).append("\" width=\"").append(String.valueOf(x - start)).append("\" height=\"1\" fill=\"").append(FILLS[run.ordinal()]).append("\"/>\n");
+
+          run = color;
+          start = x;
+        }
+      }
+    }
+
+    out.write("</svg>\n");
     return out;
   }
 
   @Override
   public String toString() {
     try {
-      final ByteArrayOutputStream writer = new ByteArrayOutputStream();
-      for (int i = 0; i < area; ++i) { // [N]
-        writer.write(screen[i].toString().getBytes());
-        if (i % width == width - 1)
-          writer.write('\n');
-      }
-
-      return new String(writer.toByteArray());
+      return new String(((ByteArrayOutputStream)render(new ByteArrayOutputStream())).toByteArray());
     }
     catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
-}
\ No newline at end of file
+}
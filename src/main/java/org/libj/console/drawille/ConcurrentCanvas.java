@@ -0,0 +1,130 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.libj.console.Ansi;
+
+/**
+ * A {@link Canvas} into which multiple threads can draw concurrently without external synchronization. Activating and deactivating
+ * pixels are atomic OR and AND-NOT updates of the packed mask words, so threads never lose each other's pixels, and threads drawing
+ * into different words never wait for each other. Updates that would not change a word are not written at all, so threads drawing
+ * over the same pixels do not contend for the word.
+ * <p>
+ * The color of a braille character is that of the most recent pixel that was activated in it by any thread.
+ * <p>
+ * {@link #snapshot(Canvas)} copies the canvas into a plain {@link Canvas} for rendering. Each mask word is read atomically, so the
+ * snapshot contains every pixel that was changed before the snapshot began, and no braille character of the snapshot is torn.
+ * Pixels changed while the snapshot is being taken may or may not be included.
+ */
+public class ConcurrentCanvas extends Canvas {
+  private final AtomicLongArray words;
+
+  /**
+   * Creates a new {@link ConcurrentCanvas} with the specified width and height in braille characters.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   * @param border Border color.
+   */
+  public ConcurrentCanvas(final int width, final int height, final Ansi.Color border) {
+    super(width, height, false);
+    this.words = new AtomicLongArray(stride * height);
+    if (border != null)
+      rectangle(0, 0, pixelWidth, pixelHeight, border);
+  }
+
+  public ConcurrentCanvas(final int width, final int height) {
+    this(width, height, null);
+  }
+
+  @Override
+  protected long word(final int w) {
+    return words.get(w);
+  }
+
+  @Override
+  protected void update(final int w, final long clear, final long set) {
+    long prev;
+    long next;
+    do {
+      prev = words.get(w);
+      next = prev & ~clear | set;
+      if (next == prev)
+        return;
+    }
+    while (!words.compareAndSet(w, prev, next));
+
+    invalidate(w / stride);
+  }
+
+  @Override
+  public void clear() {
+    for (int i = 0, i$ = words.length(); i < i$; ++i) // [N]
+      words.set(i, 0);
+
+    invalidate();
+  }
+
+  /**
+   * Returns a new {@link Canvas} with a snapshot of the pixels of this canvas.
+   *
+   * @return A new {@link Canvas} with a snapshot of the pixels of this canvas.
+   */
+  public Canvas snapshot() {
+    return snapshot(new Canvas(width, height));
+  }
+
+  /**
+   * Copies a snapshot of the pixels of this canvas into the provided {@link Canvas}, which must be of the same dimensions. The
+   * braille characters of a plain {@link Canvas} are copied word by word, and those of a subclass, such as a {@link SparseCanvas},
+   * {@link ScrollingCanvas} or {@link MipmapCanvas}, are replaced one by one through the methods by which it stores them.
+   *
+   * @param canvas The {@link Canvas} into which to copy the snapshot.
+   * @return The provided {@link Canvas}.
+   * @throws IllegalArgumentException If the dimensions of {@code canvas} differ from those of this canvas.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public Canvas snapshot(final Canvas canvas) {
+    if (canvas.width != width || canvas.height != height)
+      throw new IllegalArgumentException("Canvas of " + canvas.width + "x" + canvas.height + " differs from " + width + "x" + height);
+
+    // Each word is read before the colors it covers, so the color of each activated pixel is at least as recent as the pixel itself
+    if (canvas.getClass() == Canvas.class) {
+      for (int i = 0, i$ = words.length(); i < i$; ++i) // [N]
+        canvas.masks[i] = words.get(i);
+
+      System.arraycopy(colors, 0, canvas.colors, 0, area);
+      canvas.invalidate();
+      return canvas;
+    }
+
+    // Subclasses may store their braille characters differently, or maintain state of their own, so copy through their hooks
+    for (int row = 0; row < height; ++row) { // [N]
+      for (int w = row * stride, col = 0; col < width; ++w) { // [N]
+        final long word = words.get(w);
+        for (int k = 0; k < 8 && col < width; ++k, ++col) { // [N]
+          final int mask = (int)(word >>> (k << 3)) & 0xff;
+          canvas.cell(col, row, mask, mask == 0 ? null : colors[row * width + col]);
+        }
+      }
+    }
+
+    return canvas;
+  }
+}
@@ -0,0 +1,198 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.util.Arrays;
+
+import org.libj.console.Ansi;
+
+/**
+ * A recorder of turtle graphics that compiles the movements of the pen into a compact list of integer segments, which can be replayed
+ * onto any {@link Canvas} under translation, scaling and rotation. The trigonometry of {@link #forward(double)} is evaluated once
+ * while recording, so that replaying costs 1 affine transform per vertex and 1 {@link Canvas#line(int,int,int,int,Ansi.Color) line}
+ * per segment. The turning and the forward and backward movements of the pen are those of {@link Pen}, as for a {@link Turtle}.
+ * <p>
+ * Segments are stored as runs of connected vertices, with coordinates in fixed-point units of {@code 1/}{@link #SUBPIXELS} of a pixel,
+ * so that drawings keep their precision when replayed at a larger scale.
+ */
+public class DisplayList implements Pen {
+  /** Number of fixed-point units per pixel of the recorded coordinates */
+  public static final int SUBPIXELS = 16;
+
+  /** Horizontal coordinate */
+  protected double x = 0;
+
+  /** Vertical coordinate */
+  protected double y = 0;
+
+  /** Angle */
+  protected double a = 0;
+
+  /** Is the pen down? */
+  protected boolean isDrawing = false;
+
+  /** Fixed-point coordinates of the vertices, as pairs of horizontal and vertical coordinates */
+  private int[] vertices = new int[64];
+  private int vertexCount;
+
+  /** Index of the vertex following the last vertex of each run */
+  private int[] runEnds = new int[16];
+  private int runCount;
+
+  @Override
+  public double getX() {
+    return x;
+  }
+
+  @Override
+  public double getY() {
+    return y;
+  }
+
+  @Override
+  public double getAngle() {
+    return a;
+  }
+
+  @Override
+  public void setAngle(final double angle) {
+    a = angle;
+  }
+
+  @Override
+  public boolean isDown() {
+    return isDrawing;
+  }
+
+  /**
+   * Returns the number of recorded segments.
+   *
+   * @return The number of recorded segments.
+   */
+  public int size() {
+    return vertexCount - runCount;
+  }
+
+  @Override
+  public void down() {
+    isDrawing = true;
+  }
+
+  @Override
+  public void up() {
+    isDrawing = false;
+  }
+
+  /**
+   * Moves the pen to the specified coordinates, and records a segment from the previous coordinates if the pen is down.
+   *
+   * @param x Horizontal coordinate.
+   * @param y Vertical coordinate.
+   */
+  @Override
+  public void move(final double x, final double y) {
+    if (isDrawing) {
+      final int x1 = fixed(this.x);
+      final int y1 = fixed(this.y);
+      final int x2 = fixed(x);
+      final int y2 = fixed(y);
+      if (runCount == 0 || vertices[vertexCount * 2 - 2] != x1 || vertices[vertexCount * 2 - 1] != y1) {
+        vertex(x1, y1);
+        vertex(x2, y2);
+        if (runCount == runEnds.length)
+          runEnds = Arrays.copyOf(runEnds, runCount * 2);
+
+        runEnds[runCount++] = vertexCount;
+      }
+      else if (x2 != x1 || y2 != y1) {
+        vertex(x2, y2);
+        runEnds[runCount - 1] = vertexCount;
+      }
+    }
+
+    this.x = x;
+    this.y = y;
+  }
+
+  /**
+   * Clears the recorded segments, and resets the pen to the origin, at angle 0, in the non-drawing state.
+   */
+  public void clear() {
+    vertexCount = 0;
+    runCount = 0;
+    x = 0;
+    y = 0;
+    a = 0;
+    isDrawing = false;
+  }
+
+  private static int fixed(final double value) {
+    return (int)Math.round(value * SUBPIXELS);
+  }
+
+  private void vertex(final int x, final int y) {
+    if (vertexCount * 2 == vertices.length)
+      vertices = Arrays.copyOf(vertices, vertices.length * 2);
+
+    vertices[vertexCount * 2] = x;
+    vertices[vertexCount * 2 + 1] = y;
+    ++vertexCount;
+  }
+
+  /**
+   * Replays the recorded segments onto the specified {@link Canvas} at their recorded coordinates. Portions of segments that fall
+   * outside the canvas are clipped.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the segments.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public void draw(final Canvas canvas, final Ansi.Color color) {
+    draw(canvas, 0, 0, 1, 0, color);
+  }
+
+  /**
+   * Replays the recorded segments onto the specified {@link Canvas}, rotated about the origin by {@code angle} degrees in the same
+   * sense as {@link Pen#right(double)}, then scaled by {@code scale}, and then translated by {@code translateX} and {@code translateY}.
+   * Portions of segments that fall outside the canvas are clipped.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param translateX The horizontal translation.
+   * @param translateY The vertical translation.
+   * @param scale The scale.
+   * @param angle The angle of rotation, in degrees.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the segments.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public void draw(final Canvas canvas, final double translateX, final double translateY, final double scale, final double angle, final Ansi.Color color) {
+    final double theta = angle / 180.0 * Math.PI;
+    final double cos = angle == 0 ? scale / SUBPIXELS : Math.cos(theta) * scale / SUBPIXELS;
+    final double sin = angle == 0 ? 0 : Math.sin(theta) * scale / SUBPIXELS;
+    final int[] vertices = this.vertices;
+    for (int r = 0, v = 0; r < runCount; ++r) { // [N]
+      int x1 = (int)Math.round(translateX + cos * vertices[v * 2] - sin * vertices[v * 2 + 1]);
+      int y1 = (int)Math.round(translateY + sin * vertices[v * 2] + cos * vertices[v * 2 + 1]);
+      for (final int end = runEnds[r]; ++v < end;) { // [N]
+        final int x2 = (int)Math.round(translateX + cos * vertices[v * 2] - sin * vertices[v * 2 + 1]);
+        final int y2 = (int)Math.round(translateY + sin * vertices[v * 2] + cos * vertices[v * 2 + 1]);
+        canvas.line(x1, y1, x2, y2, color);
+        x1 = x2;
+        y1 = y2;
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import org.libj.console.Ansi;
+
+/**
+ * A 2-dimensional histogram of an unbounded stream of (x,y) samples, counted into a fixed grid of bins, and drawn onto a
+ * {@link Canvas} as a heatmap. Memory remains constant however many samples are recorded, and samples can be recorded concurrently
+ * from multiple threads: the counters of the bins are striped across threads, so that recording threads do not contend with each
+ * other. The counters take at most 16 stripes of 8 bytes per bin, however many processors there are.
+ * <p>
+ * Samples outside the range of the heatmap are counted in the bins along its edges, and samples with a {@code NaN} coordinate are
+ * ignored.
+ */
+public class Heatmap {
+  /** Dot masks for each density of dots from 0 to 8, ordered to spread the dots of low densities across the braille character */
+  private static final int[] DENSITY = new int[9];
+
+  static {
+    final int[] order = {0, 5, 1, 4, 2, 7, 3, 6};
+    for (int i = 0; i < order.length; ++i) // [A]
+      DENSITY[i + 1] = DENSITY[i] | BrailleMap.TRANSFORM_MATRIX[order[i]];
+  }
+
+  private final Bins binsX;
+  private final Bins binsY;
+  private final StripedCounters counters;
+  private long[] counts;
+  private long[] cells;
+
+  /**
+   * Creates a new {@link Heatmap} for samples in the range of [{@code minX},{@code maxX}) by [{@code minY},{@code maxY}).
+   *
+   * @param minX The inclusive lower bound of the first horizontal bin.
+   * @param maxX The exclusive upper bound of the last horizontal bin.
+   * @param binsX The number of horizontal bins.
+   * @param scaleX The {@link Histogram.Scale} of the horizontal bins.
+   * @param minY The inclusive lower bound of the first vertical bin.
+   * @param maxY The exclusive upper bound of the last vertical bin.
+   * @param binsY The number of vertical bins.
+   * @param scaleY The {@link Histogram.Scale} of the vertical bins.
+   * @throws IllegalArgumentException If the number of bins is not positive, if a lower bound is not less than its upper bound, or if
+   *           a scale is {@link Histogram.Scale#LOG} and its lower bound is not positive.
+   * @throws NullPointerException If {@code scaleX} or {@code scaleY} is null.
+   */
+  public Heatmap(final double minX, final double maxX, final int binsX, final Histogram.Scale scaleX, final double minY, final double maxY, final int binsY, final Histogram.Scale scaleY) {
+    this.binsX = new Bins(minX, maxX, binsX, scaleX);
+    this.binsY = new Bins(minY, maxY, binsY, scaleY);
+    this.counters = new StripedCounters(binsX * binsY);
+  }
+
+  /**
+   * Records the specified sample.
+   *
+   * @param x The horizontal coordinate of the sample.
+   * @param y The vertical coordinate of the sample.
+   */
+  public void record(final double x, final double y) {
+    if (x == x && y == y)
+      counters.add(binsY.index(y) * binsX.count + binsX.index(x), 1);
+  }
+
+  /**
+   * Sums the counts of each bin into the provided array, in row-major order starting with the lowest vertical bin, and returns the
+   * total count of all bins.
+   *
+   * @param counts The array into which to sum the counts of each bin, of a length of at least {@code binsX * binsY}.
+   * @return The total count of all bins.
+   * @throws ArrayIndexOutOfBoundsException If the length of {@code counts} is less than {@code binsX * binsY}.
+   * @throws NullPointerException If {@code counts} is null.
+   */
+  public long getCounts(final long[] counts) {
+    return counters.sum(counts);
+  }
+
+  /**
+   * Clears the counts of all bins.
+   */
+  public void reset() {
+    counters.reset();
+  }
+
+  /**
+   * Draws the heatmap onto the specified {@link Canvas}, with the bins resampled to the braille characters of the canvas, and the
+   * lowest vertical bins at the bottom. The intensity of each braille character is its count relative to the largest count, and is
+   * drawn as the density of its dots. If a {@code palette} is provided, the intensity also selects the color of the braille character
+   * from the palette, from the lowest to the highest intensity. Braille characters without any count are cleared, so that the heatmap
+   * can be redrawn onto the same canvas as the counts change.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param palette The {@link org.libj.console.Ansi.Color Color}s by which to map intensity, or none for
+   *          {@link org.libj.console.Ansi.Color#DEFAULT DEFAULT}.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public void draw(final Canvas canvas, final Ansi.Color ... palette) {
+    final int cols = canvas.width;
+    final int rows = canvas.height;
+    final int binsX = this.binsX.count;
+    final int binsY = this.binsY.count;
+    if (counts == null)
+      counts = new long[binsX * binsY];
+
+    if (cells == null || cells.length != cols * rows)
+      cells = new long[cols * rows];
+
+    counters.sum(counts);
+    long max = 0;
+    for (int r = 0; r < rows; ++r) { // [N]
+      final int by = rows - 1 - r;
+      for (int c = 0; c < cols; ++c) { // [N]
+        long sum = 0;
+        for (int y = Bins.from(by, binsY, rows), y$ = Bins.to(by, binsY, rows); y < y$; ++y) // [N]
+          for (int x = Bins.from(c, binsX, cols), x$ = Bins.to(c, binsX, cols); x < x$; ++x) // [N]
+            sum += counts[y * binsX + x];
+
+        max = Math.max(max, cells[r * cols + c] = sum);
+      }
+    }
+
+    for (int r = 0; r < rows; ++r) { // [N]
+      for (int c = 0; c < cols; ++c) { // [N]
+        final long count = cells[r * cols + c];
+        if (count == 0) {
+          canvas.cell(c, r, 0, null);
+          continue;
+        }
+
+        final double intensity = (double)count / max;
+        final int dots = Math.max(1, (int)Math.round(intensity * 8));
+        final Ansi.Color color = palette == null || palette.length == 0 ? Ansi.Color.DEFAULT : palette[Math.min(palette.length - 1, (int)(intensity * palette.length))];
+        canvas.cell(c, r, DENSITY[dots], color);
+      }
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import org.libj.console.Ansi;
+
+/**
+ * A histogram of an unbounded stream of samples, counted into a fixed number of bins. Memory remains constant however many samples
+ * are recorded, and samples can be recorded concurrently from multiple threads: the counters of the bins are striped across threads,
+ * so that recording threads do not contend with each other. The counters take at most 16 stripes of 8 bytes per bin, however many
+ * processors there are.
+ * <p>
+ * Samples outside the range of the histogram are counted in the first or last bin, and {@code NaN} samples are ignored.
+ */
+public class Histogram {
+  /**
+   * Enum of scales by which the range of a histogram is divided into bins.
+   */
+  public enum Scale {
+    /** Bins of equal width. */
+    LINEAR,
+    /** Bins of equal width in the logarithm of the sample, which requires the range of the histogram to be positive. */
+    LOG
+  }
+
+  private final Bins bins;
+  private final StripedCounters counters;
+  private long[] counts;
+  private long[] columns;
+
+  /**
+   * Creates a new {@link Histogram} for samples in the range of [{@code min},{@code max}).
+   *
+   * @param min The inclusive lower bound of the first bin.
+   * @param max The exclusive upper bound of the last bin.
+   * @param bins The number of bins.
+   * @param scale The {@link Scale} of the bins.
+   * @throws IllegalArgumentException If {@code bins} is not positive, if {@code min} is not less than {@code max}, or if
+   *           {@code scale} is {@link Scale#LOG} and {@code min} is not positive.
+   * @throws NullPointerException If {@code scale} is null.
+   */
+  public Histogram(final double min, final double max, final int bins, final Scale scale) {
+    this.bins = new Bins(min, max, bins, scale);
+    this.counters = new StripedCounters(bins);
+  }
+
+  /**
+   * Records the specified sample.
+   *
+   * @param value The sample.
+   */
+  public void record(final double value) {
+    if (value == value)
+      counters.add(bins.index(value), 1);
+  }
+
+  /**
+   * Returns the number of bins.
+   *
+   * @return The number of bins.
+   */
+  public int getBins() {
+    return bins.count;
+  }
+
+  /**
+   * Sums the counts of each bin into the provided array, and returns the total count of all bins.
+   *
+   * @param counts The array into which to sum the counts of each bin, of a length of at least {@link #getBins()}.
+   * @return The total count of all bins.
+   * @throws ArrayIndexOutOfBoundsException If the length of {@code counts} is less than {@link #getBins()}.
+   * @throws NullPointerException If {@code counts} is null.
+   */
+  public long getCounts(final long[] counts) {
+    return counters.sum(counts);
+  }
+
+  /**
+   * Clears the counts of all bins.
+   */
+  public void reset() {
+    counters.reset();
+  }
+
+  /**
+   * Draws the histogram onto the specified {@link Canvas} as vertical bars, with the bins resampled to the pixel columns of the
+   * canvas, and the height of the bars scaled to the largest bar. The pixels above each bar are cleared, so that the histogram can be
+   * redrawn onto the same canvas as the counts change.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the bars.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public void draw(final Canvas canvas, final Ansi.Color color) {
+    final int width = canvas.getWidth();
+    final int height = canvas.getHeight();
+    if (counts == null)
+      counts = new long[bins.count];
+
+    if (columns == null || columns.length != width)
+      columns = new long[width];
+
+    counters.sum(counts);
+    long max = 0;
+    for (int x = 0; x < width; ++x) { // [N]
+      long sum = 0;
+      for (int b = Bins.from(x, bins.count, width), b$ = Bins.to(x, bins.count, width); b < b$; ++b) // [N]
+        sum += counts[b];
+
+      max = Math.max(max, columns[x] = sum);
+    }
+
+    for (int x = 0; x < width; ++x) { // [N]
+      final int bar = max == 0 ? 0 : (int)Math.round((double)columns[x] * height / max);
+      if (bar < height)
+        canvas.line(x, 0, x, height - bar - 1, null);
+
+      if (bar > 0)
+        canvas.line(x, height - bar, x, height - 1, color);
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.libj.console.Ansi;
+
+/**
+ * Utility functions for drawing images onto a {@link Canvas}. Images are scaled to the pixel dimensions of the canvas by
+ * nearest-neighbor sampling, and converted to dots by {@link Dither dithering} their luminance, where an activated dot represents a
+ * bright pixel. Optionally, each braille character is colored with the {@link Ansi.Color} nearest to the average color of its pixels.
+ */
+public final class Images {
+  /**
+   * Enum of algorithms by which the luminance of pixels is converted to dots.
+   */
+  public enum Dither {
+    /**
+     * Floyd-Steinberg error diffusion, which diffuses the error of each pixel onto its neighbors. The image is diffused in
+     * independent bands of {@link Images#DIFFUSION_BAND_ROWS} braille rows, so that bands can be diffused in parallel.
+     */
+    FLOYD_STEINBERG,
+    /** Ordered dithering with a 4 by 4 Bayer matrix. */
+    ORDERED,
+    /** Activates the pixels with a luminance of at least 50%. */
+    THRESHOLD
+  }
+
+  /** Number of braille rows of each band of {@link Dither#FLOYD_STEINBERG} error diffusion */
+  public static final int DIFFUSION_BAND_ROWS = 16;
+
+  /** Thresholds of the 4 by 4 Bayer matrix, scaled to luminance from 0 to 255 */
+  private static final int[] BAYER = new int[16];
+
+  static {
+    final int[] matrix = {0, 8, 2, 10, 12, 4, 14, 6, 3, 11, 1, 9, 15, 7, 13, 5};
+    for (int i = 0; i < matrix.length; ++i) // [A]
+      BAYER[i] = (matrix[i] * 2 + 1) * 256 / 32;
+  }
+
+  /** The {@link Ansi.Color}s to which braille characters can be mapped, and their RGB values */
+  private static final Ansi.Color[] PALETTE = {Ansi.Color.BLACK, Ansi.Color.RED, Ansi.Color.GREEN, Ansi.Color.YELLOW, Ansi.Color.BLUE, Ansi.Color.MAGENTA, Ansi.Color.CYAN, Ansi.Color.WHITE};
+  private static final int[] PALETTE_RGB = {0x000000, 0xcd0000, 0x00cd00, 0xcdcd00, 0x0000ee, 0xcd00cd, 0x00cdcd, 0xe5e5e5};
+
+  /**
+   * Draws the specified {@link BufferedImage} onto the provided {@link Canvas}, replacing its braille characters.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param image The {@link BufferedImage} to draw.
+   * @param dither The {@link Dither} by which the luminance of pixels is converted to dots.
+   * @param color Whether to color each braille character with the {@link Ansi.Color} nearest to the average color of its pixels.
+   * @param pool The {@link ForkJoinPool} on which to convert bands of braille rows in parallel, or {@code null} to convert on the
+   *          calling thread.
+   * @throws NullPointerException If {@code canvas}, {@code image} or {@code dither} is null.
+   */
+  public static void draw(final Canvas canvas, final BufferedImage image, final Dither dither, final boolean color, final ForkJoinPool pool) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    draw(canvas, image.getRGB(0, 0, width, height, null, 0, width), width, height, dither, color, pool);
+  }
+
+  /**
+   * Draws the specified image of ARGB pixels onto the provided {@link Canvas}, replacing its braille characters. Transparent pixels are
+   * blended onto black.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param argb The ARGB pixels of the image, in row-major order.
+   * @param width The width of the image.
+   * @param height The height of the image.
+   * @param dither The {@link Dither} by which the luminance of pixels is converted to dots.
+   * @param color Whether to color each braille character with the {@link Ansi.Color} nearest to the average color of its pixels.
+   * @param pool The {@link ForkJoinPool} on which to convert bands of braille rows in parallel, or {@code null} to convert on the
+   *          calling thread. Canvases that cannot be written in parallel by rows, such as {@link SparseCanvas} and
+   *          {@link MipmapCanvas}, are always converted on the calling thread.
+   * @throws IllegalArgumentException If the length of {@code argb} is less than {@code width * height}.
+   * @throws NullPointerException If {@code canvas}, {@code argb} or {@code dither} is null.
+   */
+  public static void draw(final Canvas canvas, final int[] argb, final int width, final int height, final Dither dither, final boolean color, final ForkJoinPool pool) {
+    if (argb.length < width * height)
+      throw new IllegalArgumentException("argb.length (" + argb.length + ") < " + width + " * " + height);
+
+    if (dither == null)
+      throw new NullPointerException("dither == null");
+
+    final int pw = canvas.getWidth();
+    final int ph = canvas.getHeight();
+    if (width <= 0 || height <= 0 || pw == 0 || ph == 0)
+      return;
+
+    // Nearest-neighbor sampling from canvas pixels to image pixels
+    final int[] xs = new int[pw];
+    for (int x = 0; x < pw; ++x) // [A]
+      xs[x] = (int)((2L * x + 1) * width / (2L * pw));
+
+    final int[] ys = new int[ph];
+    for (int y = 0; y < ph; ++y) // [A]
+      ys[y] = (int)((2L * y + 1) * height / (2L * ph));
+
+    final int bandRows = dither == Dither.FLOYD_STEINBERG ? DIFFUSION_BAND_ROWS : canvas.bandRows(pool == null ? 1 : pool.getParallelism());
+    final int bands = (canvas.height + bandRows - 1) / bandRows;
+    if (pool == null || bands == 1 || !canvas.isBanded()) {
+      for (int b = 0; b < bands; ++b) // [N]
+        band(canvas, argb, width, xs, ys, dither, color, b * bandRows, Math.min(canvas.height, (b + 1) * bandRows));
+
+      return;
+    }
+
+    final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[bands];
+    for (int b = 0; b < bands; ++b) { // [N]
+      final int from = b * bandRows;
+      final int to = Math.min(canvas.height, from + bandRows);
+      tasks[b] = pool.submit(() -> band(canvas, argb, width, xs, ys, dither, color, from, to));
+    }
+
+    for (final ForkJoinTask<?> task : tasks) // [A]
+      task.join();
+  }
+
+  private static int luminance(final int argb) {
+    final int a = argb >>> 24;
+    final int l = (((argb >> 16) & 0xff) * 299 + ((argb >> 8) & 0xff) * 587 + (argb & 0xff) * 114) / 1000;
+    return l * a / 255;
+  }
+
+  /**
+   * Converts the braille rows from {@code fromRow} (inclusive) to {@code toRow} (exclusive) of the canvas.
+   */
+  private static void band(final Canvas canvas, final int[] argb, final int width, final int[] xs, final int[] ys, final Dither dither, final boolean color, final int fromRow, final int toRow) {
+    final int cols = canvas.width;
+    final int pw = xs.length;
+    final int[] masks = new int[cols];
+    int[] errors = null;
+    int[] nextErrors = null;
+    if (dither == Dither.FLOYD_STEINBERG) {
+      errors = new int[pw + 2];
+      nextErrors = new int[pw + 2];
+    }
+
+    for (int row = fromRow; row < toRow; ++row) { // [N]
+      Arrays.fill(masks, 0);
+      for (int dy = 0; dy < 4; ++dy) { // [N]
+        final int y = row * 4 + dy;
+        final int offset = ys[y] * width;
+        if (errors != null) {
+          final int[] swap = errors;
+          errors = nextErrors;
+          nextErrors = swap;
+          Arrays.fill(nextErrors, 0);
+        }
+
+        for (int x = 0; x < pw; ++x) { // [N]
+          final int l = luminance(argb[offset + xs[x]]);
+          final boolean on;
+          switch (dither) {
+            case FLOYD_STEINBERG:
+              // Errors are scaled by 16, and indexed with an offset of 1 to spare the bounds checks of the neighbors
+              final int value = l + errors[x + 1] / 16;
+              on = value >= 128;
+              final int error = value - (on ? 255 : 0);
+              errors[x + 2] += error * 7;
+              nextErrors[x] += error * 3;
+              nextErrors[x + 1] += error * 5;
+              nextErrors[x + 2] += error;
+              break;
+            case ORDERED:
+              on = l > BAYER[((y & 3) << 2) | (x & 3)];
+              break;
+            default:
+              on = l >= 128;
+          }
+
+          if (on)
+            masks[x >> 1] |= BrailleMap.TRANSFORM_MATRIX[(dy << 1) | (x & 1)];
+        }
+      }
+
+      for (int col = 0; col < cols; ++col) // [N]
+        canvas.cell(col, row, masks[col], color ? nearest(argb, width, xs, ys, col, row) : Ansi.Color.DEFAULT);
+    }
+  }
+
+  /**
+   * Returns the {@link Ansi.Color} nearest to the average color of the pixels of the braille character at the specified column and
+   * row.
+   */
+  private static Ansi.Color nearest(final int[] argb, final int width, final int[] xs, final int[] ys, final int col, final int row) {
+    int r = 0;
+    int g = 0;
+    int b = 0;
+    for (int dy = 0; dy < 4; ++dy) { // [N]
+      final int offset = ys[row * 4 + dy] * width;
+      for (int dx = 0; dx < 2; ++dx) { // [N]
+        final int pixel = argb[offset + xs[col * 2 + dx]];
+        r += (pixel >> 16) & 0xff;
+        g += (pixel >> 8) & 0xff;
+        b += pixel & 0xff;
+      }
+    }
+
+    r /= 8;
+    g /= 8;
+    b /= 8;
+    int nearest = 0;
+    int min = Integer.MAX_VALUE;
+    for (int i = 0; i < PALETTE_RGB.length; ++i) { // [A]
+      final int rgb = PALETTE_RGB[i];
+      final int dr = r - ((rgb >> 16) & 0xff);
+      final int dg = g - ((rgb >> 8) & 0xff);
+      final int db = b - (rgb & 0xff);
+      final int distance = dr * dr + dg * dg + db * db;
+      if (distance < min) {
+        min = distance;
+        nearest = i;
+      }
+    }
+
+    return PALETTE[nearest];
+  }
+
+  private Images() {
+  }
+}
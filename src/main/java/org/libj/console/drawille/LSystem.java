@@ -0,0 +1,181 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.util.Arrays;
+
+/**
+ * A Lindenmayer system, whose expansions are interpreted as turtle graphics by a {@link Pen}, such as a {@link DisplayList} that
+ * records them, or a {@link Turtle} that draws them. Expansions are interpreted depth-first as they are generated, so that memory is
+ * proportional to the number of iterations rather than to the length of the expansion.
+ * <p>
+ * Symbols are interpreted as follows:
+ * <ul>
+ * <li>{@code F} and {@code G}: Move forward with the pen down.</li>
+ * <li>{@code f}: Move forward with the pen up.</li>
+ * <li>{@code +}: Turn right.</li>
+ * <li>{@code -}: Turn left.</li>
+ * <li>{@code |}: Turn around.</li>
+ * <li>{@code [}: Push the position and angle of the pen.</li>
+ * <li>{@code ]}: Pop the position and angle of the pen.</li>
+ * </ul>
+ * All other symbols are ignored, and only serve to be rewritten by rules.
+ */
+public class LSystem {
+  private final char[] axiom;
+  private final char[][] rules = new char[128][];
+
+  private double[] stack = new double[48];
+  private int depth;
+
+  /**
+   * Creates a new {@link LSystem} with the specified axiom.
+   *
+   * @param axiom The initial sequence of symbols.
+   * @throws IllegalArgumentException If {@code axiom} contains a non-ASCII symbol.
+   * @throws NullPointerException If {@code axiom} is null.
+   */
+  public LSystem(final String axiom) {
+    this.axiom = symbols(axiom);
+  }
+
+  private static char[] symbols(final String value) {
+    final char[] symbols = value.toCharArray();
+    for (final char symbol : symbols) // [A]
+      if (symbol >= 128)
+        throw new IllegalArgumentException("Non-ASCII symbol: " + symbol);
+
+    return symbols;
+  }
+
+  /**
+   * Adds a rule that rewrites the specified symbol with the specified replacement upon each iteration.
+   *
+   * @param symbol The symbol to rewrite.
+   * @param replacement The sequence of symbols with which to rewrite {@code symbol}.
+   * @return This {@link LSystem}.
+   * @throws IllegalArgumentException If {@code symbol} or {@code replacement} contains a non-ASCII symbol.
+   * @throws NullPointerException If {@code replacement} is null.
+   */
+  public LSystem rule(final char symbol, final String replacement) {
+    if (symbol >= 128)
+      throw new IllegalArgumentException("Non-ASCII symbol: " + symbol);
+
+    rules[symbol] = symbols(replacement);
+    return this;
+  }
+
+  /**
+   * Returns the expansion of the axiom after the specified number of iterations.
+   *
+   * @param iterations The number of iterations.
+   * @return The expansion of the axiom after the specified number of iterations.
+   * @throws IllegalArgumentException If {@code iterations} is negative.
+   */
+  public String expand(final int iterations) {
+    if (iterations < 0)
+      throw new IllegalArgumentException("iterations (" + iterations + ") < 0");
+
+    final StringBuilder builder = new StringBuilder();
+    expand(axiom, iterations, builder);
+    return builder.toString();
+  }
+
+  private void expand(final char[] symbols, final int iterations, final StringBuilder builder) {
+    for (final char symbol : symbols) { // [A]
+      final char[] replacement = rules[symbol];
+      if (iterations > 0 && replacement != null)
+        expand(replacement, iterations - 1, builder);
+      else
+        builder.append(symbol);
+    }
+  }
+
+  /**
+   * Moves the provided {@link Pen} by the expansion of the axiom after the specified number of iterations, starting at its current
+   * position and angle. The pen is left up.
+   *
+   * @param pen The {@link Pen} to move, such as a {@link DisplayList} into which to record.
+   * @param iterations The number of iterations.
+   * @param step The length of each forward move.
+   * @param angle The angle of each turn, in degrees.
+   * @throws IllegalArgumentException If {@code iterations} is negative.
+   * @throws IllegalStateException If the expansion pops more than it pushes.
+   * @throws NullPointerException If {@code pen} is null.
+   */
+  public void record(final Pen pen, final int iterations, final double step, final double angle) {
+    if (iterations < 0)
+      throw new IllegalArgumentException("iterations (" + iterations + ") < 0");
+
+    if (pen == null)
+      throw new NullPointerException("pen == null");
+
+    depth = 0;
+    record(pen, axiom, iterations, step, angle);
+    pen.up();
+  }
+
+  private void record(final Pen pen, final char[] symbols, final int iterations, final double step, final double angle) {
+    for (final char symbol : symbols) { // [A]
+      final char[] replacement = rules[symbol];
+      if (iterations > 0 && replacement != null) {
+        record(pen, replacement, iterations - 1, step, angle);
+        continue;
+      }
+
+      switch (symbol) {
+        case 'F':
+        case 'G':
+          pen.down();
+          pen.forward(step);
+          break;
+        case 'f':
+          pen.up();
+          pen.forward(step);
+          break;
+        case '+':
+          pen.right(angle);
+          break;
+        case '-':
+          pen.left(angle);
+          break;
+        case '|':
+          pen.right(180);
+          break;
+        case '[':
+          if (depth * 3 == stack.length)
+            stack = Arrays.copyOf(stack, stack.length * 2);
+
+          stack[depth * 3] = pen.getX();
+          stack[depth * 3 + 1] = pen.getY();
+          stack[depth * 3 + 2] = pen.getAngle();
+          ++depth;
+          break;
+        case ']':
+          if (depth == 0)
+            throw new IllegalStateException("Unbalanced ']'");
+
+          // Return to the pushed position without drawing; the pen is put down again by the next drawing symbol
+          --depth;
+          pen.up();
+          pen.move(stack[depth * 3], stack[depth * 3 + 1]);
+          pen.setAngle(stack[depth * 3 + 2]);
+          break;
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+
+/**
+ * A stack of {@link Canvas} layers of equal dimensions that are flattened into a single composite {@link Canvas} when rendered.
+ * Each layer is combined with the layers below it by its {@link Canvas.Op}, 8 braille characters at a time. Layers that do not change
+ * between frames, such as axes and grids, need only be drawn once.
+ */
+public class Layers {
+  private final int width;
+  private final int height;
+  private final ArrayList<Canvas> layers = new ArrayList<>();
+  private final ArrayList<Canvas.Op> ops = new ArrayList<>();
+  private final Canvas composite;
+  private final Canvas scratch;
+
+  /**
+   * Creates a new {@link Layers} with the specified width and height in braille characters.
+   *
+   * @param width The desired width of the layers.
+   * @param height The desired height of the layers.
+   */
+  public Layers(final int width, final int height) {
+    this.width = width;
+    this.height = height;
+    this.composite = new Canvas(width, height);
+    this.scratch = new Canvas(width, height);
+  }
+
+  /**
+   * Adds a new layer on top of the existing layers, and returns its {@link Canvas}.
+   *
+   * @param op The {@link Canvas.Op} by which the layer is combined with the layers below it.
+   * @return The {@link Canvas} of the new layer.
+   * @throws NullPointerException If {@code op} is null.
+   */
+  public Canvas add(final Canvas.Op op) {
+    if (op == null)
+      throw new NullPointerException("op == null");
+
+    final Canvas layer = new Canvas(width, height);
+    layers.add(layer);
+    ops.add(op);
+    return layer;
+  }
+
+  /**
+   * Returns the {@link Canvas} of the layer at the specified index, where index 0 is the bottom layer.
+   *
+   * @param index The index of the layer.
+   * @return The {@link Canvas} of the layer at the specified index.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   */
+  public Canvas get(final int index) {
+    return layers.get(index);
+  }
+
+  /**
+   * Returns the number of layers.
+   *
+   * @return The number of layers.
+   */
+  public int size() {
+    return layers.size();
+  }
+
+  /**
+   * Flattens the layers from bottom to top, and returns the composite {@link Canvas}, which is reused by subsequent calls. Only the
+   * braille characters of the composite that differ from the previous flattening are replaced, so rows that did not change are not
+   * rendered anew.
+   *
+   * @return The composite {@link Canvas} of the layers.
+   */
+  public Canvas flatten() {
+    scratch.clear();
+    for (int i = 0, i$ = layers.size(); i < i$; ++i) { // [RA]
+      final Canvas layer = layers.get(i);
+      scratch.blit(layer, 0, 0, layer.getWidth(), layer.getHeight(), 0, 0, ops.get(i));
+    }
+
+    for (int row = 0, w = 0; row < height; ++row) { // [N]
+      for (int col = 0; col < width; col += 8, ++w) { // [N]
+        composite.update(w, -1L, scratch.word(w));
+        for (int i = row * width + col, i$ = row * width + Math.min(width, col + 8); i < i$; ++i) // [A]
+          composite.color(row, i, scratch.colors[i]);
+      }
+    }
+
+    return composite;
+  }
+
+  /**
+   * Flattens the layers, and writes the rendered composite to the specified OutputStream.
+   *
+   * @param out Stream to write to.
+   * @return Same stream that was passed in.
+   * @throws IOException If an I/O error has occurred.
+   * @see Canvas#render(OutputStream)
+   */
+  public OutputStream render(final OutputStream out) throws IOException {
+    return flatten().render(out);
+  }
+
+  @Override
+  public String toString() {
+    try {
+      return new String(((ByteArrayOutputStream)render(new ByteArrayOutputStream())).toByteArray());
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
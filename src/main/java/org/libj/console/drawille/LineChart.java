@@ -0,0 +1,376 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import org.libj.console.Ansi;
+
+/**
+ * A line chart of a series of values, drawn onto a {@link Canvas}. The vertical axis is scaled to the range of the values, and the
+ * horizontal axis is scaled to the width of the canvas. Series with more values than the chart has pixel columns are decimated in a
+ * single pass, so that drawing costs O(width) regardless of the number of values.
+ * <p>
+ * A series is provided either as an array to {@link #draw(double[],int,int)}, or as a stream of values to {@link #add(double)} that
+ * are drawn with {@link #draw()}. A streamed series is held in a fixed number of min/max buckets: whenever all buckets are full,
+ * adjacent buckets are merged in pairs, so memory remains constant however many values are added.
+ * <p>
+ * Values are expected to be finite.
+ */
+public class LineChart {
+  /**
+   * Enum of algorithms by which a series is reduced to the pixel columns of the chart.
+   */
+  public enum Decimation {
+    /**
+     * Largest-Triangle-Three-Buckets, which selects 1 value per pixel column that best preserves the visual shape of the series.
+     * Streamed series are always reduced with {@link #MIN_MAX}.
+     */
+    LTTB,
+    /** Draws the range between the minimum and maximum value of each pixel column, which preserves all peaks of the series. */
+    MIN_MAX
+  }
+
+  /**
+   * Min/max buckets of a series, 1 bucket per pixel column.
+   */
+  private static final class Buckets {
+    private final double[] mins;
+    private final double[] maxs;
+    private final double[] firsts;
+    private final double[] lasts;
+    private int size;
+
+    private Buckets(final int columns) {
+      this.mins = new double[columns];
+      this.maxs = new double[columns];
+      this.firsts = new double[columns];
+      this.lasts = new double[columns];
+    }
+
+    private void open(final int b, final double value) {
+      mins[b] = maxs[b] = firsts[b] = lasts[b] = value;
+    }
+
+    private void add(final int b, final double value) {
+      if (value < mins[b])
+        mins[b] = value;
+      else if (value > maxs[b])
+        maxs[b] = value;
+
+      lasts[b] = value;
+    }
+
+    /**
+     * Merges adjacent buckets in pairs, and returns whether the number of buckets was odd, in which case the last bucket is left
+     * unmerged.
+     */
+    private boolean compact() {
+      final int half = size / 2;
+      for (int i = 0, j = 0; i < half; ++i, j += 2) { // [A]
+        mins[i] = Math.min(mins[j], mins[j + 1]);
+        maxs[i] = Math.max(maxs[j], maxs[j + 1]);
+        firsts[i] = firsts[j];
+        lasts[i] = lasts[j + 1];
+      }
+
+      final boolean odd = (size & 1) == 1;
+      if (odd) {
+        mins[half] = mins[size - 1];
+        maxs[half] = maxs[size - 1];
+        firsts[half] = firsts[size - 1];
+        lasts[half] = lasts[size - 1];
+      }
+
+      size = half + (odd ? 1 : 0);
+      return odd;
+    }
+  }
+
+  protected final Canvas canvas;
+  protected final Decimation decimation;
+  protected final Ansi.Color color;
+  protected final boolean axes;
+
+  /** Horizontal coordinate of the first pixel column of the plot area */
+  private final int left;
+  /** Number of pixel columns of the plot area */
+  private final int columns;
+  /** Vertical coordinate of the last pixel row of the plot area */
+  private final int bottom;
+
+  private final Buckets stream;
+  private Buckets scratch;
+  private int[] xs;
+  private int[] ys;
+
+  private long count;
+  private int perBucket = 1;
+  private int inBucket = 1;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Creates a new {@link LineChart} that draws onto the specified {@link Canvas}.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param decimation The {@link Decimation} by which series are reduced to the pixel columns of the chart.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the chart.
+   * @param axes Whether to draw the vertical axis along the left edge, and the horizontal axis along the bottom edge of the canvas.
+   * @throws NullPointerException If {@code canvas} or {@code decimation} is null.
+   */
+  public LineChart(final Canvas canvas, final Decimation decimation, final Ansi.Color color, final boolean axes) {
+    if (decimation == null)
+      throw new NullPointerException("decimation == null");
+
+    this.canvas = canvas;
+    this.decimation = decimation;
+    this.color = color;
+    this.axes = axes;
+    this.left = axes ? 1 : 0;
+    this.columns = Math.max(0, canvas.getWidth() - left);
+    this.bottom = canvas.getHeight() - (axes ? 2 : 1);
+    this.stream = new Buckets(columns);
+  }
+
+  /**
+   * Creates a new {@link LineChart} without axes that draws onto the specified {@link Canvas}.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param decimation The {@link Decimation} by which series are reduced to the pixel columns of the chart.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the chart.
+   * @throws NullPointerException If {@code canvas} or {@code decimation} is null.
+   */
+  public LineChart(final Canvas canvas, final Decimation decimation, final Ansi.Color color) {
+    this(canvas, decimation, color, false);
+  }
+
+  /**
+   * Returns the minimum value of the most recently drawn or streamed series, which is the value at the bottom of the vertical axis.
+   *
+   * @return The minimum value of the most recently drawn or streamed series.
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum value of the most recently drawn or streamed series, which is the value at the top of the vertical axis.
+   *
+   * @return The maximum value of the most recently drawn or streamed series.
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the number of values added to the streamed series since the last {@link #reset()}.
+   *
+   * @return The number of values added to the streamed series since the last {@link #reset()}.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Adds the specified value to the streamed series.
+   *
+   * @param value The value to add.
+   */
+  public void add(final double value) {
+    if (columns == 0)
+      return;
+
+    if (inBucket == perBucket && stream.size == columns) {
+      if (!stream.compact())
+        inBucket *= 2;
+
+      perBucket *= 2;
+    }
+
+    if (inBucket == perBucket) {
+      stream.open(stream.size++, value);
+      inBucket = 1;
+    }
+    else {
+      stream.add(stream.size - 1, value);
+      ++inBucket;
+    }
+
+    if (value < min)
+      min = value;
+
+    if (value > max)
+      max = value;
+
+    ++count;
+  }
+
+  /**
+   * Clears the streamed series.
+   */
+  public void reset() {
+    stream.size = 0;
+    count = 0;
+    perBucket = 1;
+    inBucket = 1;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+  }
+
+  /**
+   * Draws the streamed series onto the canvas, reduced with {@link Decimation#MIN_MAX}.
+   */
+  public void draw() {
+    drawAxes();
+    draw(stream);
+  }
+
+  /**
+   * Draws {@code len} values of the provided array, starting at {@code offset}, onto the canvas. The {@linkplain #getMin() minimum}
+   * and {@linkplain #getMax() maximum} of the chart are set to those of the values, and the streamed series is cleared.
+   *
+   * @param values The values to draw.
+   * @param offset The index of the first value.
+   * @param len The number of values.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} and {@code len} exceed the length of {@code values}.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public void draw(final double[] values, final int offset, final int len) {
+    reset();
+    drawAxes();
+    if (columns == 0 || len == 0)
+      return;
+
+    if (decimation == Decimation.LTTB && len > columns && columns > 2) {
+      lttb(values, offset, len);
+      return;
+    }
+
+    if (scratch == null)
+      scratch = new Buckets(columns);
+
+    final int size = scratch.size = Math.min(len, columns);
+    for (int i = 0, b = -1; i < len; ++i) { // [A]
+      final double value = values[offset + i];
+      final int c = (int)((long)i * size / len);
+      if (c != b)
+        scratch.open(b = c, value);
+      else
+        scratch.add(b, value);
+
+      if (value < min)
+        min = value;
+
+      if (value > max)
+        max = value;
+    }
+
+    draw(scratch);
+  }
+
+  private void draw(final Buckets buckets) {
+    final int size = buckets.size;
+    int prevX = 0;
+    int prevY = 0;
+    for (int b = 0; b < size; ++b) { // [N]
+      final int x = x(b, size);
+      final int first = y(buckets.firsts[b]);
+      if (b > 0)
+        canvas.line(prevX, prevY, x, first, color);
+
+      canvas.line(x, y(buckets.mins[b]), x, y(buckets.maxs[b]), color);
+      prevX = x;
+      prevY = y(buckets.lasts[b]);
+    }
+  }
+
+  /**
+   * Selects {@link #columns} values with the Largest-Triangle-Three-Buckets algorithm, and draws them as a polyline. Each value is
+   * visited once while searching for the largest triangle, and once while averaging the following bucket.
+   */
+  private void lttb(final double[] values, final int offset, final int len) {
+    if (xs == null) {
+      xs = new int[columns];
+      ys = new int[columns];
+    }
+
+    final int[] indices = xs;
+    final double every = (double)(len - 2) / (columns - 2);
+    int a = 0;
+    indices[0] = 0;
+    for (int i = 0, i$ = columns - 2; i < i$; ++i) { // [N]
+      // Average of the following bucket
+      final int avgStart = (int)((i + 1) * every) + 1;
+      final int avgEnd = Math.min((int)((i + 2) * every) + 1, len);
+      double avgX = 0;
+      double avgY = 0;
+      for (int j = avgStart; j < avgEnd; ++j) { // [N]
+        avgX += j;
+        avgY += values[offset + j];
+      }
+
+      avgX /= avgEnd - avgStart;
+      avgY /= avgEnd - avgStart;
+
+      // The value of the current bucket that forms the largest triangle with the previously selected value and the average
+      final double ax = a;
+      final double ay = values[offset + a];
+      double maxArea = -1;
+      for (int j = (int)(i * every) + 1, j$ = avgStart; j < j$; ++j) { // [N]
+        final double value = values[offset + j];
+        if (value < min)
+          min = value;
+
+        if (value > max)
+          max = value;
+
+        final double area = Math.abs((ax - avgX) * (value - ay) - (ax - j) * (avgY - ay));
+        if (area > maxArea) {
+          maxArea = area;
+          a = j;
+        }
+      }
+
+      indices[i + 1] = a;
+    }
+
+    indices[columns - 1] = len - 1;
+    min = Math.min(min, Math.min(values[offset], values[offset + len - 1]));
+    max = Math.max(max, Math.max(values[offset], values[offset + len - 1]));
+
+    for (int i = 0; i < columns; ++i) { // [N]
+      ys[i] = y(values[offset + indices[i]]);
+      xs[i] = left + (int)((long)indices[i] * (columns - 1) / (len - 1));
+    }
+
+    canvas.polyline(xs, ys, 0, columns, color);
+  }
+
+  private void drawAxes() {
+    if (axes) {
+      canvas.line(0, 0, 0, canvas.getHeight() - 1, color);
+      canvas.line(0, canvas.getHeight() - 1, canvas.getWidth() - 1, canvas.getHeight() - 1, color);
+    }
+  }
+
+  private int x(final int bucket, final int size) {
+    return left + (size == 1 ? 0 : (int)((long)bucket * (columns - 1) / (size - 1)));
+  }
+
+  private int y(final double value) {
+    return max == min ? bottom / 2 : (int)Math.round((max - value) * bottom / (max - min));
+  }
+}
@@ -0,0 +1,208 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.libj.console.Ansi;
+
+/**
+ * A {@link Canvas} that maintains a pyramid of coarser levels, for zoomed-out views of dense plots. Level 0 is this canvas, and each
+ * following level is a 2x downsampling of the level below, in which each pixel is activated if any of the 2 by 2 pixels it covers is
+ * activated, and each braille character takes the color most recently drawn into the braille characters it covers.
+ * <p>
+ * The levels are maintained incrementally on the packed dot masks: whenever the mask of a braille character changes, the mask of the
+ * braille character that covers it on the next level is reduced from its 2 by 2 braille characters with a lookup table, and the
+ * reduction continues upward only while masks or colors change. Each level is a regular {@link Canvas}, so querying or rendering a
+ * level costs only the size of the level or viewport.
+ */
+public class MipmapCanvas extends Canvas {
+  /**
+   * Reduction of the dot mask of a braille character to its 2 halves: bit 0 is set if any dot of pixel rows 0 and 1 is set, and bit
+   * 1 is set if any dot of pixel rows 2 and 3 is set.
+   */
+  private static final byte[] REDUCE = new byte[256];
+
+  /** Dot masks of the pixel rows of the left and right column of a braille character, indexed by column * 4 + row */
+  private static final int[] DOTS = new int[8];
+
+  static {
+    for (int x = 0; x < 2; ++x) // [N]
+      for (int y = 0; y < 4; ++y) // [N]
+        DOTS[x * 4 + y] = BrailleMap.TRANSFORM_MATRIX[y * 2 + x];
+
+    final int top = rowMask(0, 1);
+    final int bottom = rowMask(2, 3);
+    for (int m = 0; m < 256; ++m) // [A]
+      REDUCE[m] = (byte)(((m & top) != 0 ? 1 : 0) | ((m & bottom) != 0 ? 2 : 0));
+  }
+
+  /** The levels following level 0 */
+  private final Canvas[] levels;
+
+  /**
+   * Creates a new {@link MipmapCanvas} with the specified width and height in braille characters, with levels down to a single
+   * braille character.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   */
+  public MipmapCanvas(final int width, final int height) {
+    super(width, height);
+    int count = 0;
+    for (int w = width, h = height; w > 1 || h > 1; w = (w + 1) >> 1, h = (h + 1) >> 1) // [N]
+      ++count;
+
+    levels = new Canvas[count];
+    for (int i = 0, w = width, h = height; i < count; ++i) { // [A]
+      w = (w + 1) >> 1;
+      h = (h + 1) >> 1;
+      levels[i] = new Canvas(w, h);
+    }
+  }
+
+  /**
+   * Returns the number of levels, including level 0.
+   *
+   * @return The number of levels, including level 0.
+   */
+  public int getLevels() {
+    return levels.length + 1;
+  }
+
+  /**
+   * Returns the {@link Canvas} of the specified level, where level 0 is this canvas. The returned canvas must not be modified.
+   *
+   * @param level The level.
+   * @return The {@link Canvas} of the specified level.
+   * @throws ArrayIndexOutOfBoundsException If {@code level} is negative, or not less than {@link #getLevels()}.
+   */
+  public Canvas getLevel(final int level) {
+    return level == 0 ? this : levels[level - 1];
+  }
+
+  @Override
+  protected void update(final int w, final long clear, final long set) {
+    final long before = word(w);
+    super.update(w, clear, set);
+    if (levels == null || levels.length == 0)
+      return;
+
+    // Braille characters whose dots changed, or that were drawn into with a possibly new color
+    final long changed = (before ^ word(w)) | set;
+    final int row = w / stride;
+    final int first = (w - row * stride) << 3;
+    for (long bytes = changed; bytes != 0;) { // [N]
+      final int k = Long.numberOfTrailingZeros(bytes) >>> 3;
+      reduce(0, first + k, row);
+      bytes &= ~(0xffL << (k << 3));
+    }
+  }
+
+  /**
+   * Returns {@code false}, since drawing onto any row updates the braille characters of the coarser levels that are shared with
+   * neighboring rows.
+   *
+   * @return {@code false}.
+   */
+  @Override
+  boolean isBanded() {
+    return false;
+  }
+
+  /**
+   * Reduces the braille character of level {@code fromLevel + 1} that covers the braille character at the specified column and row
+   * of level {@code fromLevel}, and continues upward while the reduction changes.
+   */
+  private void reduce(final int fromLevel, final int fromCol, final int fromRow) {
+    for (int level = fromLevel, col = fromCol, row = fromRow; level < levels.length; ++level, col >>= 1, row >>= 1) { // [N]
+      final Canvas child = getLevel(level);
+      final Canvas parent = levels[level];
+      final int c0 = col & ~1;
+      final int r0 = row & ~1;
+      int mask = 0;
+      for (int r = 0; r < 2 && r0 + r < child.height; ++r) { // [N]
+        for (int c = 0; c < 2 && c0 + c < child.width; ++c) { // [N]
+          final int halves = REDUCE[child.mask((r0 + r) * child.width + c0 + c)];
+          if ((halves & 1) != 0)
+            mask |= DOTS[c * 4 + r * 2];
+
+          if ((halves & 2) != 0)
+            mask |= DOTS[c * 4 + r * 2 + 1];
+        }
+      }
+
+      final int i = (row >> 1) * parent.width + (col >> 1);
+      final int before = parent.mask(i);
+      final Ansi.Color color = child.mask(row * child.width + col) != 0 ? child.cellColor(row * child.width + col) : parent.cellColor(i);
+      if (mask == before && (mask == 0 || color == parent.cellColor(i)))
+        return;
+
+      parent.cell(col >> 1, row >> 1, mask, color);
+    }
+  }
+
+  /**
+   * Returns the color of the pixel at the provided coordinates of the specified level, or {@code null} if the pixel is not activated.
+   *
+   * @param level The level.
+   * @param x Horizontal coordinate of the pixel on the level.
+   * @param y Vertical coordinate of the pixel on the level.
+   * @return The color of the pixel at the provided coordinates of the specified level, or {@code null} if the pixel is not activated.
+   * @throws ArrayIndexOutOfBoundsException If {@code level} is negative, or not less than {@link #getLevels()}.
+   * @throws DrawilleException If the coordinates are outside the level.
+   */
+  public Ansi.Color get(final int level, final int x, final int y) {
+    return getLevel(level).get(x, y);
+  }
+
+  /**
+   * Renders the viewport of {@code width} by {@code height} braille characters of the specified level, with its top left braille
+   * character at ({@code col},{@code row}), to the specified {@link OutputStream}. Braille characters of the viewport that fall
+   * outside the level are rendered empty.
+   *
+   * @param level The level.
+   * @param col The column of the top left braille character of the viewport.
+   * @param row The row of the top left braille character of the viewport.
+   * @param width The width of the viewport in braille characters.
+   * @param height The height of the viewport in braille characters.
+   * @param out The {@link OutputStream} to which to render.
+   * @throws ArrayIndexOutOfBoundsException If {@code level} is negative, or not less than {@link #getLevels()}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public void render(final int level, final int col, final int row, final int width, final int height, final OutputStream out) throws IOException {
+    final Canvas canvas = getLevel(level);
+    for (int r = row, r$ = row + height; r < r$; ++r) { // [N]
+      for (int c = col, c$ = col + width; c < c$; ++c) { // [N]
+        final int i = r * canvas.width + c;
+        final int mask = r < 0 || c < 0 || r >= canvas.height || c >= canvas.width ? 0 : canvas.mask(i);
+        out.write(BrailleMap.toString(mask, mask == 0 ? null : canvas.cellColor(i)).getBytes());
+      }
+
+      out.write('\n');
+    }
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    for (final Canvas level : levels) // [A]
+      level.clear();
+  }
+}
@@ -0,0 +1,118 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+/**
+ * The pen of turtle graphics, which has a position, an angle, and a state of being down or up. Moving the pen while it is down draws
+ * a line from its previous position. The turning and the forward and backward movements along the angle of the pen are implemented
+ * here, in terms of the position, angle and {@link #move(double,double)} of the implementation, so that all implementations move
+ * identically.
+ *
+ * @see Turtle
+ * @see DisplayList
+ */
+public interface Pen {
+  /**
+   * Returns the horizontal component of the position of the pen.
+   *
+   * @return The horizontal position of the pen.
+   */
+  double getX();
+
+  /**
+   * Returns the vertical component of the position of the pen.
+   *
+   * @return The vertical position of the pen.
+   */
+  double getY();
+
+  /**
+   * Returns the angle of the pen, in degrees.
+   *
+   * @return The angle of the pen, in degrees.
+   */
+  double getAngle();
+
+  /**
+   * Sets the angle of the pen, in degrees.
+   *
+   * @param angle The angle of the pen, in degrees.
+   */
+  void setAngle(double angle);
+
+  /**
+   * Returns whether the pen is in the drawing state.
+   *
+   * @return Whether the pen is in the drawing state.
+   */
+  boolean isDown();
+
+  /**
+   * Sets the state of the pen to be in the drawing state.
+   */
+  void down();
+
+  /**
+   * Sets the state of the pen to be in the non-drawing state.
+   */
+  void up();
+
+  /**
+   * Moves the pen to the specified coordinates, and draws a line from the previous coordinates if the pen is down.
+   *
+   * @param x Horizontal coordinate.
+   * @param y Vertical coordinate.
+   */
+  void move(double x, double y);
+
+  /**
+   * Adds the specified angle to the angle of the pen.
+   *
+   * @param angle Angle to turn right, in degrees.
+   */
+  default void right(final double angle) {
+    setAngle(getAngle() + angle);
+  }
+
+  /**
+   * Subtracts the specified angle from the angle of the pen.
+   *
+   * @param angle Angle to turn left, in degrees.
+   */
+  default void left(final double angle) {
+    setAngle(getAngle() - angle);
+  }
+
+  /**
+   * Moves the pen forwards by the specified length along the angle of the pen.
+   *
+   * @param length Length to move forward.
+   */
+  default void forward(final double length) {
+    final double theta = getAngle() / 180.0 * Math.PI;
+    move(getX() + length * Math.cos(theta), getY() + length * Math.sin(theta));
+  }
+
+  /**
+   * Moves the pen backwards by the specified length along the angle of the pen.
+   *
+   * @param length Length to move back.
+   */
+  default void backward(final double length) {
+    forward(-length);
+  }
+}
@@ -0,0 +1,283 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.libj.console.Ansi;
+
+/**
+ * A list of primitives (points, lines, circles and ellipses) that is drawn onto a {@link Canvas} as a whole. The primitives are held
+ * in primitive arrays, in the order in which they are added.
+ * <p>
+ * {@link #draw(Canvas,ForkJoinPool)} divides the canvas into horizontal bands of braille rows, bins each primitive into the bands that
+ * it spans, and rasterizes each band on the pool with its primitives clipped to the band. Since each row of braille characters
+ * starts on its own mask word, bands never write to the same memory, and since clipping does not change the pixels of a primitive,
+ * the image is identical to that of {@link #draw(Canvas)}.
+ */
+public class Scene {
+  private static final byte POINT = 0;
+  private static final byte LINE = 1;
+  private static final byte CIRCLE = 2;
+  private static final byte ELLIPSE = 3;
+
+  private byte[] types = new byte[16];
+  private int[] coords = new int[16 * 4];
+  private Ansi.Color[] colors = new Ansi.Color[16];
+  private int size;
+
+  private void add(final byte type, final int a, final int b, final int c, final int d, final Ansi.Color color) {
+    if (size == types.length) {
+      types = Arrays.copyOf(types, size * 2);
+      coords = Arrays.copyOf(coords, size * 2 * 4);
+      colors = Arrays.copyOf(colors, size * 2);
+    }
+
+    types[size] = type;
+    colors[size] = color;
+    final int i = size++ * 4;
+    coords[i] = a;
+    coords[i + 1] = b;
+    coords[i + 2] = c;
+    coords[i + 3] = d;
+  }
+
+  /**
+   * Adds a point at ({@code x},{@code y}).
+   *
+   * @param x Horizontal coordinate of the pixel.
+   * @param y Vertical coordinate of the pixel.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixel.
+   * @return This {@link Scene}.
+   */
+  public Scene point(final int x, final int y, final Ansi.Color color) {
+    add(POINT, x, y, 0, 0, color);
+    return this;
+  }
+
+  /**
+   * Adds a line from ({@code x1},{@code y1}) to ({@code x2},{@code y2}).
+   *
+   * @param x1 Horizontal coordinate of the start pixel.
+   * @param y1 Vertical coordinate of the start pixel.
+   * @param x2 Horizontal coordinate of the end pixel.
+   * @param y2 Vertical coordinate of the end pixel.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the line.
+   * @return This {@link Scene}.
+   * @see Canvas#line(int,int,int,int,Ansi.Color)
+   */
+  public Scene line(final int x1, final int y1, final int x2, final int y2, final Ansi.Color color) {
+    add(LINE, x1, y1, x2, y2, color);
+    return this;
+  }
+
+  /**
+   * Adds the outline of the rectangle with its top left pixel at ({@code x},{@code y}), spanning {@code width} by {@code height}
+   * pixels.
+   *
+   * @param x Horizontal coordinate of the top left pixel.
+   * @param y Vertical coordinate of the top left pixel.
+   * @param width The width of the rectangle in pixels.
+   * @param height The height of the rectangle in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   * @return This {@link Scene}.
+   * @see Canvas#rectangle(int,int,int,int,Ansi.Color)
+   */
+  public Scene rectangle(final int x, final int y, final int width, final int height, final Ansi.Color color) {
+    if (width > 0 && height > 0) {
+      final int x2 = x + width - 1;
+      final int y2 = y + height - 1;
+      line(x, y, x2, y, color);
+      line(x, y2, x2, y2, color);
+      line(x, y, x, y2, color);
+      line(x2, y, x2, y2, color);
+    }
+
+    return this;
+  }
+
+  /**
+   * Adds the outline of the circle centered at ({@code cx},{@code cy}) with the specified {@code radius}.
+   *
+   * @param cx Horizontal coordinate of the center pixel.
+   * @param cy Vertical coordinate of the center pixel.
+   * @param radius The radius in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   * @return This {@link Scene}.
+   * @see Canvas#circle(int,int,int,Ansi.Color)
+   */
+  public Scene circle(final int cx, final int cy, final int radius, final Ansi.Color color) {
+    add(CIRCLE, cx, cy, radius, radius, color);
+    return this;
+  }
+
+  /**
+   * Adds the outline of the axis-aligned ellipse centered at ({@code cx},{@code cy}) with the specified radii.
+   *
+   * @param cx Horizontal coordinate of the center pixel.
+   * @param cy Vertical coordinate of the center pixel.
+   * @param rx The horizontal radius in pixels.
+   * @param ry The vertical radius in pixels.
+   * @param color {@link org.libj.console.Ansi.Color Color} to set on the pixels of the outline.
+   * @return This {@link Scene}.
+   * @throws IllegalArgumentException If {@code rx} or {@code ry} is greater than 524288 (2<sup>19</sup>).
+   * @see Canvas#ellipse(int,int,int,int,Ansi.Color)
+   */
+  public Scene ellipse(final int cx, final int cy, final int rx, final int ry, final Ansi.Color color) {
+    Canvas.checkRadius(rx, "rx");
+    Canvas.checkRadius(ry, "ry");
+    add(ELLIPSE, cx, cy, rx, ry, color);
+    return this;
+  }
+
+  /**
+   * Returns the number of primitives in this scene.
+   *
+   * @return The number of primitives in this scene.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all primitives from this scene.
+   */
+  public void clear() {
+    Arrays.fill(colors, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Draws the primitives of this scene onto the specified {@link Canvas} on the calling thread.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @throws NullPointerException If {@code canvas} is null.
+   */
+  public void draw(final Canvas canvas) {
+    final int maxX = canvas.getWidth() - 1;
+    final int maxY = canvas.getHeight() - 1;
+    for (int i = 0; i < size; ++i) // [N]
+      draw(canvas, i, maxX, 0, maxY);
+  }
+
+  /**
+   * Draws the primitives of this scene onto the specified {@link Canvas}, with bands of braille rows rasterized in parallel on the
+   * specified {@link ForkJoinPool}. The image is identical to that of {@link #draw(Canvas)}. Canvases whose rows cannot be drawn onto
+   * concurrently, such as a {@link SparseCanvas} or a
+   * {@link MipmapCanvas}, are drawn onto on the calling thread.
+   *
+   * @param canvas The {@link Canvas} onto which to draw.
+   * @param pool The {@link ForkJoinPool} on which to rasterize the bands.
+   * @throws NullPointerException If {@code canvas} or {@code pool} is null.
+   */
+  public void draw(final Canvas canvas, final ForkJoinPool pool) {
+    final int bandHeight = canvas.bandRows(pool.getParallelism()) * 4;
+    final int maxX = canvas.getWidth() - 1;
+    final int maxY = canvas.getHeight() - 1;
+    final int bands = (canvas.getHeight() + bandHeight - 1) / bandHeight;
+    if (bands <= 1 || size == 0) {
+      draw(canvas);
+      return;
+    }
+
+    // Bin the primitives into bands in compressed sparse row form: the primitives of band b are at [offsets[b], offsets[b + 1])
+    final int[] offsets = new int[bands + 1];
+    for (int i = 0; i < size; ++i) { // [N]
+      final long span = span(i, bandHeight, bands);
+      for (int b = (int)(span >> 32), b$ = (int)span; b < b$; ++b) // [N]
+        ++offsets[b + 1];
+    }
+
+    for (int b = 0; b < bands; ++b) // [N]
+      offsets[b + 1] += offsets[b];
+
+    final int[] primitives = new int[offsets[bands]];
+    final int[] next = Arrays.copyOf(offsets, bands);
+    for (int i = 0; i < size; ++i) { // [N]
+      final long span = span(i, bandHeight, bands);
+      for (int b = (int)(span >> 32), b$ = (int)span; b < b$; ++b) // [N]
+        primitives[next[b]++] = i;
+    }
+
+    final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[bands];
+    for (int b = 0; b < bands; ++b) { // [N]
+      final int band = b;
+      tasks[b] = pool.submit(() -> {
+        final int minY = band * bandHeight;
+        final int bandMaxY = Math.min(maxY, minY + bandHeight - 1);
+        for (int j = offsets[band], j$ = offsets[band + 1]; j < j$; ++j) // [A]
+          draw(canvas, primitives[j], maxX, minY, bandMaxY);
+      });
+    }
+
+    for (final ForkJoinTask<?> task : tasks) // [A]
+      task.join();
+  }
+
+  /**
+   * Returns the range of bands spanned by the primitive at the specified index, with the inclusive first band in the high 32 bits,
+   * and the exclusive last band in the low 32 bits.
+   */
+  private long span(final int i, final int bandHeight, final int bands) {
+    final int j = i * 4;
+    final long minY;
+    final long maxY;
+    switch (types[i]) {
+      case LINE:
+        minY = Math.min(coords[j + 1], coords[j + 3]);
+        maxY = Math.max(coords[j + 1], coords[j + 3]);
+        break;
+      case POINT:
+        minY = maxY = coords[j + 1];
+        break;
+      default:
+        minY = (long)coords[j + 1] - coords[j + 3];
+        maxY = (long)coords[j + 1] + coords[j + 3];
+    }
+
+    final long from = Math.max(0, Math.floorDiv(minY, bandHeight));
+    final long to = Math.min(bands, Math.floorDiv(maxY, bandHeight) + 1);
+    return from >= to ? 0 : from << 32 | to;
+  }
+
+  private void draw(final Canvas canvas, final int i, final int maxX, final int minY, final int maxY) {
+    final int j = i * 4;
+    final Ansi.Color color = colors[i];
+    switch (types[i]) {
+      case POINT:
+        final int x = coords[j];
+        final int y = coords[j + 1];
+        if (x >= 0 && x <= maxX && y >= minY && y <= maxY)
+          canvas.plot(x, y, color);
+
+        break;
+      case LINE:
+        canvas.line(coords[j], coords[j + 1], coords[j + 2], coords[j + 3], color, 0, minY, maxX, maxY);
+        break;
+      case CIRCLE:
+        canvas.circle(coords[j], coords[j + 1], coords[j + 2], color, 0, minY, maxX, maxY);
+        break;
+      case ELLIPSE:
+        canvas.ellipse(coords[j], coords[j + 1], coords[j + 2], coords[j + 3], color, 0, minY, maxX, maxY);
+        break;
+      default:
+        throw new IllegalStateException("Unknown primitive: " + types[i]);
+    }
+  }
+}
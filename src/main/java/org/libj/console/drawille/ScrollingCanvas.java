@@ -0,0 +1,135 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import org.libj.console.Ansi;
+
+/**
+ * A {@link Canvas} whose columns are stored in a ring buffer, for rolling charts that append data at the right edge. Scrolling left
+ * advances the column origin of the ring buffer, and clears only the newly exposed columns at the right edge, so the cost of
+ * {@link #scrollLeft(int)} is independent of the width of the canvas.
+ * <p>
+ * All coordinates are relative to the scrolled view: column 0 is always the leftmost visible column.
+ */
+public class ScrollingCanvas extends Canvas {
+  /** Physical column of the leftmost visible column */
+  private int origin;
+
+  /**
+   * Creates a new {@link ScrollingCanvas} with the specified width and height in braille characters.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   */
+  public ScrollingCanvas(final int width, final int height) {
+    super(width, height);
+  }
+
+  /**
+   * Scrolls the canvas to the left by the specified number of braille columns. The leftmost columns are discarded, and the same
+   * number of empty columns are exposed at the right edge.
+   *
+   * @param cols The number of braille columns by which to scroll.
+   * @throws IllegalArgumentException If {@code cols} is negative.
+   */
+  public void scrollLeft(final int cols) {
+    if (cols < 0)
+      throw new IllegalArgumentException("cols (" + cols + ") < 0");
+
+    if (cols >= width) {
+      clear();
+      return;
+    }
+
+    for (int row = 0; row < height; ++row) // [N]
+      for (int c = 0; c < cols; ++c) // [N]
+        super.cell(physical(c), row, 0, null);
+
+    // Every row shifts, even if the discarded columns were already empty
+    if (cols > 0) {
+      origin = physical(cols);
+      invalidate();
+    }
+  }
+
+  private int physical(final int col) {
+    final int c = col + origin;
+    return c >= width ? c - width : c;
+  }
+
+  private int physicalX(final int x) {
+    final int px = x + origin * 2;
+    return px >= pixelWidth ? px - pixelWidth : px;
+  }
+
+  private int physicalIndex(final int i) {
+    final int row = i / width;
+    final int col = i - row * width;
+    return row * width + physical(col);
+  }
+
+  @Override
+  boolean isPacked() {
+    return false;
+  }
+
+  @Override
+  protected int mask(final int i) {
+    return super.mask(physicalIndex(i));
+  }
+
+  @Override
+  protected Ansi.Color cellColor(final int i) {
+    return super.cellColor(physicalIndex(i));
+  }
+
+  @Override
+  protected Ansi.Color pixel(final int x, final int y) {
+    return super.pixel(physicalX(x), y);
+  }
+
+  @Override
+  protected void plot(final int x, final int y, final Ansi.Color color) {
+    super.plot(physicalX(x), y, color);
+  }
+
+  @Override
+  void cell(final int col, final int row, final int mask, final Ansi.Color color) {
+    super.cell(physical(col), row, mask, color);
+  }
+
+  /**
+   * Returns a new {@link Canvas} with a copy of the visible pixels of this canvas, with the columns in their visible order.
+   *
+   * @return A new {@link Canvas} with a copy of the visible pixels of this canvas.
+   */
+  @Override
+  public Canvas copy() {
+    final Canvas copy = new Canvas(width, height);
+    for (int row = 0, i = 0; row < height; ++row) // [N]
+      for (int col = 0; col < width; ++col, ++i) // [N]
+        copy.cell(col, row, mask(i), cellColor(i));
+
+    return copy;
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    origin = 0;
+  }
+}
@@ -0,0 +1,370 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.libj.console.Ansi;
+
+/**
+ * A {@link Canvas} for very large virtual coordinate spaces, which stores only the tiles of braille characters that have been drawn
+ * onto. Each tile holds {@link #TILE_WIDTH} by {@link #TILE_HEIGHT} braille characters as packed mask words, laid out as the words of
+ * a regular canvas, and is kept in an open-addressing hash map keyed by the primitive {@code long} coordinates of the tile. Memory
+ * is therefore proportional to the populated area rather than to the dimensions of the canvas.
+ * <p>
+ * Braille characters are addressed by {@code int} indices, as in a regular canvas, so the dimensions of a sparse canvas are bounded
+ * to at most {@link Integer#MAX_VALUE} braille characters, such as 65536 by 32767. The constructor rejects larger dimensions.
+ * <p>
+ * All drawing methods of {@link Canvas} apply, and any viewport of the canvas can be rendered with
+ * {@link #render(int,int,int,int,OutputStream)}, or copied onto a regular canvas with {@link #viewport(int,int,Canvas)}.
+ */
+public class SparseCanvas extends Canvas {
+  /** Width of a tile in braille characters */
+  public static final int TILE_WIDTH = 64;
+
+  /** Height of a tile in braille characters */
+  public static final int TILE_HEIGHT = 16;
+
+  /** Number of mask words per row of a tile */
+  private static final int TILE_STRIDE = TILE_WIDTH / 8;
+
+  private static final Ansi.Color[] COLORS = Ansi.Color.values();
+
+  private static final class Tile {
+    private final long[] words = new long[TILE_STRIDE * TILE_HEIGHT];
+
+    /** Ordinal + 1 of the color of each braille character, or 0 for none */
+    private final byte[] colors = new byte[TILE_WIDTH * TILE_HEIGHT];
+
+    private Tile copy() {
+      final Tile copy = new Tile();
+      System.arraycopy(words, 0, copy.words, 0, words.length);
+      System.arraycopy(colors, 0, copy.colors, 0, colors.length);
+      return copy;
+    }
+  }
+
+  private long[] keys = new long[16];
+  private Tile[] tiles = new Tile[16];
+  private int size;
+
+  /** The most recently accessed tile, to spare map lookups for consecutive pixels of a primitive */
+  private long lastKey = -1;
+  private Tile lastTile;
+
+  /**
+   * Creates a new {@link SparseCanvas} with the specified width and height in braille characters. No memory is allocated for braille
+   * characters until they are drawn onto.
+   *
+   * @param width The desired width of the canvas.
+   * @param height The desired height of the canvas.
+   * @throws IllegalArgumentException If {@code width} or {@code height} is negative, or if the number of braille characters, or the
+   *           number of pixels in either dimension exceeds {@link Integer#MAX_VALUE}.
+   */
+  public SparseCanvas(final int width, final int height) {
+    super(check(width, height), height, false, false);
+  }
+
+  private static int check(final int width, final int height) {
+    if (width < 0 || height < 0 || (long)width * height > Integer.MAX_VALUE || width > Integer.MAX_VALUE / 2 || height > Integer.MAX_VALUE / 4)
+      throw new IllegalArgumentException("Illegal dimensions: " + width + " x " + height);
+
+    return width;
+  }
+
+  /**
+   * Returns the number of tiles that have been allocated.
+   *
+   * @return The number of tiles that have been allocated.
+   */
+  public int getTileCount() {
+    return size;
+  }
+
+  private static long key(final int col, final int row) {
+    return (long)(row / TILE_HEIGHT) << 32 | col / TILE_WIDTH;
+  }
+
+  private static int hash(final long key, final int mask) {
+    final long h = key * 0x9e3779b97f4a7c15L;
+    return (int)(h ^ h >>> 32) & mask;
+  }
+
+  /**
+   * Returns the tile of the braille character at the specified column and row, allocating it if {@code allocate} is true.
+   */
+  private Tile tile(final int col, final int row, final boolean allocate) {
+    final long key = key(col, row);
+    if (key == lastKey)
+      return lastTile;
+
+    final int mask = keys.length - 1;
+    int i = hash(key, mask);
+    for (Tile tile; (tile = tiles[i]) != null; i = (i + 1) & mask) { // [N]
+      if (keys[i] == key) {
+        lastKey = key;
+        return lastTile = tile;
+      }
+    }
+
+    if (!allocate)
+      return null;
+
+    final Tile tile = new Tile();
+    keys[i] = key;
+    tiles[i] = tile;
+    if (++size * 2 > keys.length)
+      rehash();
+
+    lastKey = key;
+    return lastTile = tile;
+  }
+
+  private void rehash() {
+    final long[] oldKeys = keys;
+    final Tile[] oldTiles = tiles;
+    keys = new long[oldKeys.length * 2];
+    tiles = new Tile[oldTiles.length * 2];
+    final int mask = keys.length - 1;
+    for (int j = 0; j < oldTiles.length; ++j) { // [A]
+      if (oldTiles[j] != null) {
+        int i = hash(oldKeys[j], mask);
+        while (tiles[i] != null)
+          i = (i + 1) & mask;
+
+        keys[i] = oldKeys[j];
+        tiles[i] = oldTiles[j];
+      }
+    }
+  }
+
+  private static int wordIndex(final int col, final int row) {
+    return (row % TILE_HEIGHT) * TILE_STRIDE + ((col % TILE_WIDTH) >>> 3);
+  }
+
+  private static int cellIndex(final int col, final int row) {
+    return (row % TILE_HEIGHT) * TILE_WIDTH + col % TILE_WIDTH;
+  }
+
+  @Override
+  protected long word(final int w) {
+    final int row = w / stride;
+    final int col = (w - row * stride) << 3;
+    final Tile tile = tile(col, row, false);
+    return tile == null ? 0 : tile.words[wordIndex(col, row)];
+  }
+
+  @Override
+  protected void update(final int w, final long clear, final long set) {
+    final int row = w / stride;
+    final int col = (w - row * stride) << 3;
+    final Tile tile = tile(col, row, set != 0);
+    if (tile != null) {
+      final int i = wordIndex(col, row);
+      final long next = tile.words[i] & ~clear | set;
+      if (next != tile.words[i]) {
+        tile.words[i] = next;
+        invalidate(row);
+      }
+    }
+  }
+
+  @Override
+  boolean isPacked() {
+    return false;
+  }
+
+  /**
+   * Returns {@code false}, since the tile map and the most recently accessed tile are shared by all rows.
+   *
+   * @return {@code false}.
+   */
+  @Override
+  boolean isBanded() {
+    return false;
+  }
+
+  @Override
+  protected int mask(final int i) {
+    final int row = i / width;
+    final int col = i - row * width;
+    final Tile tile = tile(col, row, false);
+    return tile == null ? 0 : (int)(tile.words[wordIndex(col, row)] >>> ((col & 7) << 3)) & 0xff;
+  }
+
+  @Override
+  protected Ansi.Color cellColor(final int i) {
+    final int row = i / width;
+    final int col = i - row * width;
+    final Tile tile = tile(col, row, false);
+    return tile == null ? null : color(tile.colors[cellIndex(col, row)]);
+  }
+
+  private static Ansi.Color color(final byte ordinal) {
+    return ordinal == 0 ? null : COLORS[ordinal - 1];
+  }
+
+  private static byte ordinal(final Ansi.Color color) {
+    return color == null ? 0 : (byte)(color.ordinal() + 1);
+  }
+
+  @Override
+  protected Ansi.Color pixel(final int x, final int y) {
+    final int col = x >> 1;
+    final int row = y >> 2;
+    final Tile tile = tile(col, row, false);
+    if (tile == null)
+      return null;
+
+    final long bit = (long)BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | (x & 1)] << ((col & 7) << 3);
+    return (tile.words[wordIndex(col, row)] & bit) == 0 ? null : color(tile.colors[cellIndex(col, row)]);
+  }
+
+  @Override
+  protected void plot(final int x, final int y, final Ansi.Color color) {
+    final int col = x >> 1;
+    final int row = y >> 2;
+    final Tile tile = tile(col, row, color != null);
+    if (tile == null)
+      return;
+
+    final int w = wordIndex(col, row);
+    final long bit = (long)BrailleMap.TRANSFORM_MATRIX[((y & 3) << 1) | (x & 1)] << ((col & 7) << 3);
+    final long word = tile.words[w];
+    if (color == null) {
+      tile.words[w] &= ~bit;
+    }
+    else {
+      final int c = cellIndex(col, row);
+      final byte ordinal = ordinal(color);
+      if (tile.colors[c] != ordinal) {
+        tile.colors[c] = ordinal;
+        invalidate(row);
+      }
+
+      tile.words[w] |= bit;
+    }
+
+    if (tile.words[w] != word)
+      invalidate(row);
+  }
+
+  @Override
+  void cell(final int col, final int row, final int mask, final Ansi.Color color) {
+    final Tile tile = tile(col, row, mask != 0);
+    if (tile == null)
+      return;
+
+    final int w = wordIndex(col, row);
+    final int c = cellIndex(col, row);
+    final int shift = (col & 7) << 3;
+    final byte ordinal = ordinal(color);
+    final long next = tile.words[w] & ~(0xffL << shift) | (long)mask << shift;
+    if (next != tile.words[w] || ordinal != tile.colors[c]) {
+      tile.words[w] = next;
+      tile.colors[c] = ordinal;
+      invalidate(row);
+    }
+  }
+
+  /**
+   * Copies the braille characters of this canvas with their top left braille character at ({@code col},{@code row}) onto the
+   * provided {@link Canvas}, replacing all of its braille characters. Braille characters of the viewport that fall outside this
+   * canvas are cleared.
+   *
+   * @param col The column of the top left braille character of the viewport.
+   * @param row The row of the top left braille character of the viewport.
+   * @param target The {@link Canvas} onto which to copy, whose dimensions are those of the viewport.
+   * @throws NullPointerException If {@code target} is null.
+   */
+  public void viewport(final int col, final int row, final Canvas target) {
+    for (int r = 0; r < target.height; ++r) { // [N]
+      for (int c = 0; c < target.width; ++c) { // [N]
+        final long x = (long)col + c;
+        final long y = (long)row + r;
+        final Tile tile = x < 0 || y < 0 || x >= width || y >= height ? null : tile((int)x, (int)y, false);
+        if (tile == null) {
+          target.cell(c, r, 0, null);
+        }
+        else {
+          final int i = cellIndex((int)x, (int)y);
+          target.cell(c, r, (int)(tile.words[wordIndex((int)x, (int)y)] >>> ((x & 7) << 3)) & 0xff, color(tile.colors[i]));
+        }
+      }
+    }
+  }
+
+  /**
+   * Renders the viewport of {@code width} by {@code height} braille characters with its top left braille character at
+   * ({@code col},{@code row}) to the specified {@link OutputStream}. Braille characters of the viewport that fall outside this canvas
+   * are rendered empty.
+   *
+   * @param col The column of the top left braille character of the viewport.
+   * @param row The row of the top left braille character of the viewport.
+   * @param width The width of the viewport in braille characters.
+   * @param height The height of the viewport in braille characters.
+   * @param out The {@link OutputStream} to which to render.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public void render(final int col, final int row, final int width, final int height, final OutputStream out) throws IOException {
+    for (int r = 0; r < height; ++r) { // [N]
+      for (int c = 0; c < width; ++c) { // [N]
+        final long x = (long)col + c;
+        final long y = (long)row + r;
+        final Tile tile = x < 0 || y < 0 || x >= this.width || y >= this.height ? null : tile((int)x, (int)y, false);
+        final int mask = tile == null ? 0 : (int)(tile.words[wordIndex((int)x, (int)y)] >>> ((x & 7) << 3)) & 0xff;
+        out.write(BrailleMap.toString(mask, mask == 0 ? null : color(tile.colors[cellIndex((int)x, (int)y)])).getBytes());
+      }
+
+      out.write('\n');
+    }
+  }
+
+  /**
+   * Returns a new {@link SparseCanvas} with a copy of the tiles of this canvas.
+   *
+   * @return A new {@link SparseCanvas} with a copy of the tiles of this canvas.
+   */
+  @Override
+  public SparseCanvas copy() {
+    final SparseCanvas copy = new SparseCanvas(width, height);
+    copy.keys = keys.clone();
+    copy.tiles = new Tile[tiles.length];
+    for (int i = 0; i < tiles.length; ++i) // [A]
+      if (tiles[i] != null)
+        copy.tiles[i] = tiles[i].copy();
+
+    copy.size = size;
+    return copy;
+  }
+
+  /**
+   * Deactivates all the pixels of the canvas, and releases all of its tiles.
+   */
+  @Override
+  public void clear() {
+    keys = new long[16];
+    tiles = new Tile[16];
+    size = 0;
+    lastKey = -1;
+    lastTile = null;
+    invalidate();
+  }
+}
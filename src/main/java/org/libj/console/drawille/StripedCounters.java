@@ -0,0 +1,87 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed number of {@code long} counters that are striped across threads. Each thread increments the counters of the stripe
+ * selected by its id, and the stripes are padded so that threads on different stripes do not contend for the same cache line.
+ * <p>
+ * The number of stripes is capped at {@link #MAX_STRIPES}, so that the memory of {@code size} counters is bounded by
+ * {@code MAX_STRIPES * (size + 8) * 8} bytes regardless of the number of processors. Beyond that many threads, threads share stripes
+ * and contend on their counters, but no count is lost.
+ */
+final class StripedCounters {
+  /** Number of {@code long} values between stripes, which spans a 64-byte cache line */
+  private static final int PADDING = 8;
+
+  /** Maximum number of stripes, which is a power of 2 */
+  static final int MAX_STRIPES = 16;
+
+  private final int size;
+  private final int stride;
+  private final int mask;
+  private final AtomicLongArray counters;
+
+  /**
+   * Creates a new {@link StripedCounters} with a stripe for each available processor, rounded up to a power of 2, and at most
+   * {@link #MAX_STRIPES}.
+   *
+   * @param size The number of counters.
+   */
+  StripedCounters(final int size) {
+    this.size = size;
+    this.stride = size + PADDING;
+    final int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+    this.mask = stripes - 1;
+    this.counters = new AtomicLongArray(stripes * stride);
+  }
+
+  int size() {
+    return size;
+  }
+
+  void add(final int index, final long delta) {
+    final long id = Thread.currentThread().getId();
+    counters.getAndAdd(((int)(id ^ id >>> 16) & mask) * stride + index, delta);
+  }
+
+  /**
+   * Sums the counters of all stripes into the provided array.
+   *
+   * @param sums The array into which to sum the counters.
+   * @return The total of all counters.
+   */
+  long sum(final long[] sums) {
+    long total = 0;
+    for (int i = 0; i < size; ++i) { // [N]
+      long sum = 0;
+      for (int s = i, s$ = counters.length(); s < s$; s += stride) // [N]
+        sum += counters.get(s);
+
+      total += sums[i] = sum;
+    }
+
+    return total;
+  }
+
+  void reset() {
+    for (int i = 0, i$ = counters.length(); i < i$; ++i) // [N]
+      counters.set(i, 0);
+  }
+}
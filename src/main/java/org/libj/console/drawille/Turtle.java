@@ -20,9 +20,9 @@ package org.libj.console.drawille;
 /**
  * This class inherits from the Canvas class and it tries to implement turtle graphics. The methods in this class can be abstracted
  * with an idea of a pen and paper. One can move the pen in three axis and based on the z axis, when the pen moves it either draws
- * on the paper or not.
+ * on the paper or not. The turning and the forward and backward movements of the pen are those of {@link Pen}.
  */
-public class Turtle extends Canvas {
+public class Turtle extends Canvas implements Pen {
   /** Horizontal coordinate */
   protected double x = 0;
 
@@ -50,6 +50,7 @@ public class Turtle extends Canvas {
    *
    * @return double Horizontal position of pen.
    */
+  @Override
   public double getX() {
     return x;
   }
@@ -59,6 +60,7 @@ public class Turtle extends Canvas {
    *
    * @return double Vertical position of pen.
    */
+  @Override
   public double getY() {
     return y;
   }
@@ -68,13 +70,25 @@ public class Turtle extends Canvas {
    *
    * @return double Angle of pen
    */
+  @Override
   public double getAngle() {
     return a;
   }
 
+  @Override
+  public void setAngle(final double angle) {
+    a = angle;
+  }
+
+  @Override
+  public boolean isDown() {
+    return isDrawing;
+  }
+
   /**
    * This method simply sets the state of the pen to be in the drawing state.
    */
+  @Override
   public void down() {
     isDrawing = true;
   }
@@ -82,78 +96,23 @@ public class Turtle extends Canvas {
   /**
    * This method simply sets the state of the pen to be in the non-drawing state.
    */
+  @Override
   public void up() {
     isDrawing = false;
   }
 
-  /**
-   * This method takes in the angle to add to the right and adds it to the pen angle.
-   *
-   * @param angle Angle to move right.
-   */
-  public void right(final double angle) {
-    a += angle;
-  }
-
-  /**
-   * This method takes in the angle to add to the left and subtracts it from pen angle.
-   *
-   * @param angle Angle to move right.
-   */
-  public void left(final double angle) {
-    a -= angle;
-  }
-
-  /**
-   * This method takes in the length and expects us to move backwards with the pen based on the current pen angle. The forward method
-   * is used to implement this method by simply passing in the same scalar value of length but in the opposite direction.
-   *
-   * @param length Length to move back.
-   */
-  public void backward(final double length) {
-    forward(length * -1);
-  }
-
-  /**
-   * This method takes in the length and expects us to move forwards with the pen based on the current pen angle.
-   *
-   * @param length Length to move forward.
-   */
-  public void forward(double length) {
-    final double theta = a / 180.0 * Math.PI;
-    move(x + length * Math.cos(theta), y + length * Math.sin(theta));
-  }
-
   /**
    * This method takes in a new horizontal and vertical coordinate and based on the current coordinates, it draws a line to connect
-   * them. If the state of isDrawing is false, then we do not draw and instead just move the pen to those coordinates.
+   * them. If the state of isDrawing is false, then we do not draw and instead just move the pen to those coordinates. Portions of the
+   * line that fall outside the canvas are clipped.
    *
    * @param x Horizontal coordinate.
    * @param y Vertical coordinate.
    */
+  @Override
   public void move(final double x, final double y) {
-    if (isDrawing) {
-      int x1 = (int)Math.round(this.x);
-      int y1 = (int)Math.round(this.y);
-      int x2 = (int)Math.round(x);
-      int y2 = (int)Math.round(y);
-      int deltaX = Math.max(x1, x2) - Math.min(x1, x2);
-      int deltaY = Math.max(y1, y2) - Math.min(y1, y2);
-      int directionX = x1 <= x2 ? 1 : -1;
-      int directionY = y1 <= y2 ? 1 : -1;
-      int a = Math.max(deltaX, deltaY);
-      for (int i = 0; i <= a; ++i) { // [N]
-        int x0 = x1;
-        int y0 = y1;
-        if (deltaY > 0)
-          y0 += ((double)i * deltaY) / a * directionY;
-
-        if (deltaX > 0)
-          x0 += ((double)i * deltaX) / a * directionX;
-
-        set(x0, y0);
-      }
-    }
+    if (isDrawing)
+      line((int)Math.round(this.x), (int)Math.round(this.y), (int)Math.round(x), (int)Math.round(y));
 
     this.x = x;
     this.y = y;
@@ -0,0 +1,127 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.libj.console.Allocations.*;
+import static org.libj.lang.Strings.Align.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.Test;
+import org.libj.console.drawille.Canvas;
+
+/**
+ * Allocation-budget tests of the rendering hot paths. Budgets are proportional to the size of the input or output, and leave room
+ * for the 2 bytes per character of strings on JDK 8.
+ */
+public class AllocationTest {
+  private static String[][] columns(final int rows, final int columns) {
+    final String[][] table = new String[columns][];
+    for (int c = 0; c < columns; ++c) { // [N]
+      final String[] column = table[c] = new String[1 + rows];
+      column[0] = "Column " + c;
+      for (int r = 1; r <= rows; ++r) // [N]
+        column[r] = String.valueOf(r * 31 + c);
+    }
+
+    return table;
+  }
+
+  private static Canvas canvas(final int width, final int height) {
+    final Canvas canvas = new Canvas(width, height);
+    final Ansi.Color[] colors = Ansi.Color.values();
+    for (int i = 0; i < width * height; ++i) // [N]
+      canvas.set((i * 37) % canvas.getWidth(), (i * 13) % canvas.getHeight(), colors[i % colors.length]);
+
+    return canvas;
+  }
+
+  private static Object render(final Canvas canvas, final ByteArrayOutputStream out) {
+    out.reset();
+    try {
+      return canvas.render(out);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Test
+  public void testPrintTable() {
+    final String[][] columns = columns(100, 5);
+    final int length = Tables.printTable(true, CENTER, LEFT, columns).length();
+    assertBudget("Tables.printTable", 64L * length, () -> Tables.printTable(true, CENTER, LEFT, columns));
+  }
+
+  @Test
+  public void testApply() {
+    assertBudget("Ansi.apply", 768, () -> Ansi.apply("request 4711 completed", Ansi.Intensity.BOLD, Ansi.Color.RED));
+    assertBudget("Ansi.apply", 768, () -> Ansi.apply("request 4711 completed", Ansi.Color.GREEN));
+  }
+
+  @Test
+  public void testToHtml() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100; ++i) // [N]
+      builder.append(Ansi.apply("line " + i, Ansi.Color.RED)).append(" of the corpus ").append(Ansi.apply("ok", Ansi.Intensity.BOLD, Ansi.Color.GREEN)).append('\n');
+
+    final String corpus = builder.toString();
+    assertBudget("Ansi.toHtml", 16L * corpus.length(), () -> Ansi.toHtml(corpus));
+  }
+
+  @Test
+  public void testCsi() {
+    final byte[] bytes = new byte[1000 * Csi.MAX_LENGTH];
+    final char[] chars = new char[1000 * Csi.MAX_LENGTH];
+    assertBudget("Csi (1000 cursor moves)", 16, () -> {
+      for (int i = 0, b = 0, c = 0; i < 1000; ++i) { // [N]
+        b = Csi.moveTo(bytes, b, 1 + i % 50, 1 + i);
+        c = Csi.moveTo(chars, c, 1 + i % 50, 1 + i);
+      }
+
+      return bytes;
+    });
+  }
+
+  @Test
+  public void testRender() {
+    final Canvas canvas = canvas(100, 25);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+
+    // Unchanged rows are written from the render cache
+    assertBudget("Canvas.render (unchanged)", 16, () -> render(canvas, out));
+
+    // 1 changed row of 100 braille characters
+    final int[] row = {0};
+    assertBudget("Canvas.render (1 row changed)", 256L * 100, () -> {
+      final int y = (row[0]++ % 25) * 4;
+      canvas.set(0, y);
+      canvas.unset(0, y);
+      return render(canvas, out);
+    });
+
+    // All 25 rows changed
+    assertBudget("Canvas.render (all rows changed)", 256L * 100 * 25, () -> {
+      for (int y = 0; y < canvas.getHeight(); y += 4) // [N]
+        canvas.set(1, y);
+
+      return render(canvas, out);
+    });
+  }
+}
@@ -0,0 +1,95 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Utility functions for allocation-budget tests, which measure the bytes allocated per operation by the current thread with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ */
+public final class Allocations {
+  private static final int WARMUP = 5000;
+  private static final com.sun.management.ThreadMXBean threadMXBean;
+
+  static {
+    final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean)bean).isThreadAllocatedMemorySupported()) {
+      threadMXBean = (com.sun.management.ThreadMXBean)bean;
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+    else {
+      threadMXBean = null;
+    }
+  }
+
+  /** Accumulates the results of operations, so that they cannot be eliminated */
+  private static int sink;
+
+  /**
+   * Returns whether the JVM supports measuring the bytes allocated per thread.
+   *
+   * @return Whether the JVM supports measuring the bytes allocated per thread.
+   */
+  public static boolean isSupported() {
+    return threadMXBean != null;
+  }
+
+  /**
+   * Returns the average number of bytes allocated by the current thread per invocation of the specified operation, measured over
+   * {@code iterations} invocations after a warmup for the JIT compiler.
+   *
+   * @param iterations The number of measured invocations.
+   * @param operation The operation.
+   * @return The average number of bytes allocated per invocation of the operation, or -1 if the JVM does not support measuring the
+   *         bytes allocated per thread.
+   */
+  public static long bytesPerOp(final int iterations, final Supplier<?> operation) {
+    if (threadMXBean == null)
+      return -1;
+
+    for (int i = 0; i < WARMUP; ++i) // [N]
+      sink += System.identityHashCode(operation.get());
+
+    final long id = Thread.currentThread().getId();
+    final long start = threadMXBean.getThreadAllocatedBytes(id);
+    for (int i = 0; i < iterations; ++i) // [N]
+      sink += System.identityHashCode(operation.get());
+
+    return (threadMXBean.getThreadAllocatedBytes(id) - start) / iterations;
+  }
+
+  /**
+   * Asserts that the specified operation allocates no more than {@code budget} bytes per invocation on average. If the JVM does not
+   * support measuring the bytes allocated per thread, this method does nothing.
+   *
+   * @param name The name of the operation, for the failure message.
+   * @param budget The budget of bytes per invocation.
+   * @param operation The operation.
+   */
+  public static void assertBudget(final String name, final long budget, final Supplier<?> operation) {
+    final long bytes = bytesPerOp(1000, operation);
+    if (bytes >= 0)
+      assertTrue(name + " allocated " + bytes + " bytes/op over its budget of " + budget, bytes <= budget);
+  }
+
+  private Allocations() {
+  }
+}
@@ -0,0 +1,110 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of {@link Ansi#apply(String,Ansi.Intensity,Ansi.Color)} for each combination of intensity and color, and of
+ * {@link Ansi#toHtml(CharSequence)} over a corpus of log lines with different densities of escapes. Run with the {@code benchmark}
+ * profile, which reports the bytes allocated per operation with the GC profiler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnsiBenchmark {
+  @State(Scope.Benchmark)
+  public static class Style {
+    @Param({"BOLD", "DEFAULT", "FAINT", "INTENSE", "ITALIC", "UNDERLINE"})
+    public Ansi.Intensity intensity;
+
+    @Param({"BLACK", "BLUE", "CYAN", "DEFAULT", "GREEN", "MAGENTA", "RED", "WHITE", "YELLOW"})
+    public Ansi.Color color;
+
+    public String str = "request 4711 completed in 12ms";
+  }
+
+  @State(Scope.Benchmark)
+  public static class Corpus {
+    private static final String[] LEVELS = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+    private static final Ansi.Color[] LEVEL_COLORS = {Ansi.Color.CYAN, Ansi.Color.BLUE, Ansi.Color.GREEN, Ansi.Color.YELLOW, Ansi.Color.RED};
+
+    /**
+     * The density of escapes: {@code none} for plain lines, {@code low} for a colored level per line, and {@code high} for every
+     * token of each line styled.
+     */
+    @Param({"none", "low", "high"})
+    public String density;
+
+    @Param({"1000"})
+    public int lines;
+
+    String corpus;
+
+    @Setup
+    public void setup() {
+      final Random random = new Random(1);
+      final Ansi.Color[] colors = Ansi.Color.values();
+      final Ansi.Intensity[] intensities = Ansi.Intensity.values();
+      final StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < lines; ++i) { // [N]
+        final int level = random.nextInt(LEVELS.length);
+        final String[] tokens = {"2026-10-19", String.format("12:%02d:%02d.%03d", i / 3600 % 60, i / 60 % 60, i % 1000), LEVELS[level], "[worker-" + random.nextInt(16) + "]", "o.l.c.Service", "-", "request", String.valueOf(random.nextInt(100000)), "completed", "in", random.nextInt(500) + "ms"};
+        for (int t = 0; t < tokens.length; ++t) { // [N]
+          if (t > 0)
+            builder.append(' ');
+
+          if ("low".equals(density) && t == 2)
+            builder.append(Ansi.apply(tokens[t], Ansi.Intensity.BOLD, LEVEL_COLORS[level]));
+          else if ("high".equals(density))
+            builder.append(Ansi.apply(tokens[t], intensities[random.nextInt(intensities.length)], colors[random.nextInt(colors.length)]));
+          else
+            builder.append(tokens[t]);
+        }
+
+        builder.append('\n');
+      }
+
+      corpus = builder.toString();
+    }
+  }
+
+  @Benchmark
+  public String apply(final Style style) {
+    return Ansi.apply(style.str, style.intensity, style.color);
+  }
+
+  @Benchmark
+  public String toHtml(final Corpus corpus) {
+    return Ansi.toHtml(corpus.corpus);
+  }
+}
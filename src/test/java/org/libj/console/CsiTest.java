@@ -0,0 +1,101 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class CsiTest {
+  private final byte[] bytes = new byte[Csi.MAX_LENGTH * 4];
+  private final char[] chars = new char[Csi.MAX_LENGTH * 4];
+
+  private void assertSequence(final String expected, final int byteEnd, final int charEnd) {
+    assertEquals(expected, new String(bytes, 0, byteEnd, StandardCharsets.US_ASCII));
+    assertEquals(expected, new String(chars, 0, charEnd));
+  }
+
+  @Test
+  public void testMoveTo() {
+    assertSequence("\033[H", Csi.moveTo(bytes, 0, 1, 1), Csi.moveTo(chars, 0, 1, 1));
+    assertSequence("\033[12;345H", Csi.moveTo(bytes, 0, 12, 345), Csi.moveTo(chars, 0, 12, 345));
+    assertSequence("\033[2147483647;2147483647H", Csi.moveTo(bytes, 0, Integer.MAX_VALUE, Integer.MAX_VALUE), Csi.moveTo(chars, 0, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    assertEquals(Csi.MAX_LENGTH, Csi.moveTo(bytes, 0, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    assertSequence("\033[10G", Csi.column(bytes, 0, 10), Csi.column(chars, 0, 10));
+  }
+
+  @Test
+  public void testMove() {
+    assertSequence("", Csi.up(bytes, 0, 0), Csi.up(chars, 0, 0));
+    assertSequence("\033[A", Csi.up(bytes, 0, 1), Csi.up(chars, 0, 1));
+    assertSequence("\033[9B", Csi.down(bytes, 0, 9), Csi.down(chars, 0, 9));
+    assertSequence("\033[10C", Csi.forward(bytes, 0, 10), Csi.forward(chars, 0, 10));
+    assertSequence("\033[D", Csi.back(bytes, 0, 1), Csi.back(chars, 0, 1));
+    assertSequence("\033[3S", Csi.scrollUp(bytes, 0, 3), Csi.scrollUp(chars, 0, 3));
+    assertSequence("\033[T", Csi.scrollDown(bytes, 0, 1), Csi.scrollDown(chars, 0, 1));
+  }
+
+  @Test
+  public void testScreen() {
+    assertSequence("\033[0K", Csi.eraseLine(bytes, 0, Csi.Erase.TO_END), Csi.eraseLine(chars, 0, Csi.Erase.TO_END));
+    assertSequence("\033[2J", Csi.eraseScreen(bytes, 0, Csi.Erase.ALL), Csi.eraseScreen(chars, 0, Csi.Erase.ALL));
+    assertSequence("\033[2;24r", Csi.scrollRegion(bytes, 0, 2, 24), Csi.scrollRegion(chars, 0, 2, 24));
+    assertSequence("\033[r", Csi.resetScrollRegion(bytes, 0), Csi.resetScrollRegion(chars, 0));
+    assertSequence("\033[?25l", Csi.hideCursor(bytes, 0), Csi.hideCursor(chars, 0));
+    assertSequence("\033[?25h", Csi.showCursor(bytes, 0), Csi.showCursor(chars, 0));
+    assertSequence("\0337", Csi.saveCursor(bytes, 0), Csi.saveCursor(chars, 0));
+    assertSequence("\0338", Csi.restoreCursor(bytes, 0), Csi.restoreCursor(chars, 0));
+    assertSequence("\033[?1049h", Csi.alternateScreen(bytes, 0, true), Csi.alternateScreen(chars, 0, true));
+  }
+
+  @Test
+  public void testChain() {
+    int b = Csi.hideCursor(bytes, 0);
+    b = Csi.moveTo(bytes, b, 5, 7);
+    b = Csi.eraseLine(bytes, b, Csi.Erase.ALL);
+    int c = Csi.hideCursor(chars, 0);
+    c = Csi.moveTo(chars, c, 5, 7);
+    c = Csi.eraseLine(chars, c, Csi.Erase.ALL);
+    assertSequence("\033[?25l\033[5;7H\033[2K", b, c);
+  }
+
+  @Test
+  public void testIllegal() {
+    try {
+      Csi.moveTo(bytes, 0, 2, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Csi.up(chars, 0, -1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Csi.scrollRegion(bytes, 0, 5, 4);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
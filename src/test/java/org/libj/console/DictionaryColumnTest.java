@@ -0,0 +1,90 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class DictionaryColumnTest {
+  @Test
+  public void testOf() {
+    final DictionaryColumn column = DictionaryColumn.of("Status", "OK", "FAIL", null, "OK", "FAIL");
+    assertEquals("Status", column.getHeading());
+    assertEquals(3, column.getCardinality());
+    assertEquals(5, column.size());
+    assertEquals("OK", column.getValue(0));
+    assertEquals("FAIL", column.getValue(1));
+    assertNull(column.getValue(2));
+    assertEquals(0, column.code(3));
+    assertEquals("FAIL", column.get(4));
+    assertTrue(Arrays.equals(new boolean[] {true, true, true}, column.used()));
+  }
+
+  @Test
+  public void testWide() {
+    final String[] cells = new String[1000];
+    for (int i = 0; i < cells.length; ++i) // [A]
+      cells[i] = String.valueOf(i % 300);
+
+    final DictionaryColumn column = DictionaryColumn.of("Id", cells);
+    assertEquals(300, column.getCardinality());
+    assertEquals(299, column.code(299));
+    assertEquals(0, column.code(300));
+    assertEquals("42", column.get(642));
+  }
+
+  @Test
+  public void testCodes() {
+    final String[] values = {"a", "b", "c"};
+    final DictionaryColumn column = new DictionaryColumn("x", values, new byte[] {2, 2});
+    assertTrue(Arrays.equals(new boolean[] {false, false, true}, column.used()));
+    try {
+      new DictionaryColumn("x", values, new byte[] {0, 3});
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new DictionaryColumn("x", values, new int[] {-1});
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    assertEquals(255, new DictionaryColumn("x", new String[256], new byte[] {(byte)255}).code(0));
+  }
+
+  @Test
+  public void testCopy() {
+    final String[] values = {"a", "b"};
+    final byte[] bytes = {0, 1};
+    final int[] ints = {1, 0};
+    final DictionaryColumn byteColumn = new DictionaryColumn("x", values, bytes);
+    final DictionaryColumn intColumn = new DictionaryColumn("x", values, ints);
+    values[0] = "z";
+    bytes[0] = 7;
+    ints[0] = -1;
+    assertEquals("a", byteColumn.get(0));
+    assertEquals("a", intColumn.get(1));
+    assertEquals(0, byteColumn.code(0));
+    assertEquals(1, intColumn.code(0));
+  }
+}
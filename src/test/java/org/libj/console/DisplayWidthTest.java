@@ -0,0 +1,82 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+import static org.libj.lang.Strings.Align.*;
+
+import org.junit.Test;
+
+public class DisplayWidthTest {
+  @Test
+  public void testCodePoint() {
+    assertEquals(1, DisplayWidth.of('a'));
+    assertEquals(0, DisplayWidth.of('\t'));
+    assertEquals(0, DisplayWidth.of(0x9B));
+    assertEquals(1, DisplayWidth.of('é'));
+    assertEquals(0, DisplayWidth.of(0x0301));
+    assertEquals(0, DisplayWidth.of(0x200B));
+    assertEquals(0, DisplayWidth.of(0x200D));
+    assertEquals(1, DisplayWidth.of(0xAD));
+    assertEquals(1, DisplayWidth.of('⠿'));
+    assertEquals(1, DisplayWidth.of('═'));
+    assertEquals(2, DisplayWidth.of('日'));
+    assertEquals(2, DisplayWidth.of('한'));
+    assertEquals(2, DisplayWidth.of('ア'));
+    assertEquals(1, DisplayWidth.of('ｱ'));
+    assertEquals(2, DisplayWidth.of('Ａ'));
+    assertEquals(2, DisplayWidth.of(0x1F600));
+    assertEquals(2, DisplayWidth.of(0x20BB7));
+    assertEquals(0, DisplayWidth.of(0xE0100));
+    assertEquals(1, DisplayWidth.of(0x10000));
+  }
+
+  @Test
+  public void testString() {
+    assertEquals(0, DisplayWidth.of(""));
+    assertEquals(5, DisplayWidth.of("hello"));
+    assertEquals(4, DisplayWidth.of("日本"));
+    assertEquals(4, DisplayWidth.of(Ansi.apply("日本", Ansi.Intensity.BOLD, Ansi.Color.RED)));
+    assertEquals(2, DisplayWidth.of("éé"));
+    assertEquals(3, DisplayWidth.of("a😀"));
+    assertEquals(1, DisplayWidth.of("\033[?25la\033[2;24r\0337"));
+  }
+
+  @Test
+  public void testCached() {
+    final String str = new String("東京-01");
+    assertEquals(7, DisplayWidth.cached(str));
+    assertEquals(7, DisplayWidth.cached(new String("東京-01")));
+    assertEquals(2, DisplayWidth.cached(Ansi.Color.RED.apply("ok")));
+    assertEquals(1, DisplayWidth.cached("é"));
+
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 2000; ++i) // [N]
+      builder.append('字');
+
+    assertEquals(4000, DisplayWidth.cached(builder.toString()));
+  }
+
+  @Test
+  public void testTable() {
+    final String table = Tables.printTable(true, CENTER, LEFT, new String[][] {{"Host", "東京-01", "a", "Ａｂ"}, {"Status", Ansi.Color.GREEN.apply("稼働中"), "é", "ok"}});
+    final String[] lines = table.replaceAll(" +\n", "\n").replaceAll(" +$", "").split("\n");
+    final int width = DisplayWidth.of(lines[0]);
+    for (final String line : lines) // [A]
+      assertEquals(line, width, DisplayWidth.of(line));
+  }
+}
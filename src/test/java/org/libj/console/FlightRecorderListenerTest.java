@@ -0,0 +1,114 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+import static org.libj.lang.Strings.Align.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.libj.console.drawille.Canvas;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderListenerTest {
+  @After
+  public void after() {
+    Instrumentation.setListener(null);
+  }
+
+  private static RecordedEvent find(final List<RecordedEvent> events, final String name) {
+    for (int i = 0, i$ = events.size(); i < i$; ++i) { // [RA]
+      final RecordedEvent event = events.get(i);
+      if (event.getEventType().getName().equals(name))
+        return event;
+    }
+
+    fail("Event not found: " + name);
+    return null;
+  }
+
+  @Test
+  public void testEvents() throws IOException {
+    final Instrumentation.Counters counters = new Instrumentation.Counters();
+    final Path file = Files.createTempFile("console", ".jfr");
+    try (final Recording recording = new Recording()) {
+      recording.enable("org.libj.console.TableRender").withThreshold(Duration.ZERO);
+      recording.enable("org.libj.console.HtmlConversion").withThreshold(Duration.ZERO);
+      recording.enable("org.libj.console.CanvasFlush").withThreshold(Duration.ZERO);
+      recording.start();
+
+      Instrumentation.setListener(new FlightRecorderListener(counters));
+
+      // A render that throws commits no event
+      try {
+        Tables.printTable(new DictionaryColumn[] {null});
+        fail("Expected NullPointerException");
+      }
+      catch (final NullPointerException e) {
+      }
+
+      final String table = Tables.printTable(true, CENTER, LEFT, new String[][] {{"a", "1", "2"}, {"b", "3"}});
+      final String html = Ansi.toHtml(Ansi.Color.RED.apply("a"));
+      final Canvas canvas = new Canvas(10, 5);
+      canvas.set(0, 0, Ansi.Color.GREEN);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      canvas.render(out);
+
+      recording.stop();
+      recording.dump(file);
+
+      final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      int tableRenders = 0;
+      for (int i = 0, i$ = events.size(); i < i$; ++i) // [RA]
+        if (events.get(i).getEventType().getName().equals("org.libj.console.TableRender"))
+          ++tableRenders;
+
+      assertEquals(1, tableRenders);
+      final RecordedEvent tableRender = find(events, "org.libj.console.TableRender");
+      assertEquals(5, tableRender.getLong("cells"));
+      assertEquals(2, tableRender.getLong("rows"));
+      assertEquals(table.length(), tableRender.getLong("chars"));
+
+      final RecordedEvent htmlConversion = find(events, "org.libj.console.HtmlConversion");
+      assertEquals(2, htmlConversion.getLong("escapes"));
+      assertEquals(html.length(), htmlConversion.getLong("chars"));
+
+      final RecordedEvent canvasFlush = find(events, "org.libj.console.CanvasFlush");
+      assertEquals(50, canvasFlush.getLong("cells"));
+      assertEquals(5, canvasFlush.getLong("rows"));
+      assertEquals(out.size(), canvasFlush.getLong("bytes"));
+      assertFalse(canvasFlush.getDuration().isNegative());
+
+      assertEquals(1, counters.get(Instrumentation.Source.TABLE, Instrumentation.Metric.CALLS));
+      assertEquals(1, counters.get(Instrumentation.Source.HTML, Instrumentation.Metric.CALLS));
+      assertEquals(1, counters.get(Instrumentation.Source.CANVAS, Instrumentation.Metric.CALLS));
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
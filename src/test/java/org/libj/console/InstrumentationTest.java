@@ -0,0 +1,151 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+import static org.libj.console.Instrumentation.Metric.*;
+import static org.libj.console.Instrumentation.Source.*;
+import static org.libj.lang.Strings.Align.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+import org.libj.console.drawille.Canvas;
+
+public class InstrumentationTest {
+  private final Instrumentation.Counters counters = new Instrumentation.Counters();
+
+  @After
+  public void after() {
+    Instrumentation.setListener(null);
+  }
+
+  @Test
+  public void testDisabled() {
+    assertNull(Instrumentation.getListener());
+    Tables.printTable(new String[] {"a", "1"}, new String[] {"b", "2"});
+    Instrumentation.setListener(counters);
+    assertEquals(0, counters.get(TABLE, CALLS));
+  }
+
+  @Test
+  public void testTable() {
+    Instrumentation.setListener(counters);
+    final String table = Tables.printTable(true, CENTER, LEFT, new String[][] {{"a", "1", Ansi.Color.RED.apply("2"), null}, {"b", "3"}});
+    assertEquals(1, counters.get(TABLE, CALLS));
+    assertEquals(5, counters.get(TABLE, CELLS));
+    assertEquals(3, counters.get(TABLE, ROWS));
+    assertEquals(2, counters.get(TABLE, ESCAPES));
+    assertEquals(table.length(), counters.get(TABLE, OUTPUT));
+    assertTrue(counters.get(TABLE, MEASURE_NANOS) >= 0);
+    assertTrue(counters.get(TABLE, LAYOUT_NANOS) >= 0);
+    assertTrue(counters.get(TABLE, EMIT_NANOS) >= 0);
+
+    counters.reset();
+    assertEquals(0, counters.get(TABLE, CALLS));
+    assertEquals(0, counters.get(TABLE, OUTPUT));
+  }
+
+  @Test
+  public void testHtml() {
+    Instrumentation.setListener(counters);
+    final String html = Ansi.toHtml(Ansi.Color.RED.apply("a") + "\n" + Ansi.apply("b", Ansi.Intensity.BOLD, Ansi.Color.BLUE));
+    assertEquals(1, counters.get(HTML, CALLS));
+    assertEquals(2, counters.get(HTML, ROWS));
+    assertEquals(4, counters.get(HTML, ESCAPES));
+    assertEquals(html.length(), counters.get(HTML, OUTPUT));
+    assertEquals(0, counters.get(TABLE, CALLS));
+  }
+
+  @Test
+  public void testCanvas() throws IOException {
+    final Canvas canvas = new Canvas(10, 5);
+    canvas.set(0, 0, Ansi.Color.GREEN);
+    canvas.set(5, 9, Ansi.Color.GREEN);
+    Instrumentation.setListener(counters);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    canvas.render(out);
+    assertEquals(1, counters.get(CANVAS, CALLS));
+    assertEquals(50, counters.get(CANVAS, CELLS));
+    assertEquals(5, counters.get(CANVAS, ROWS));
+    assertEquals(4, counters.get(CANVAS, ESCAPES));
+    assertEquals(out.size(), counters.get(CANVAS, OUTPUT));
+
+    // Unchanged rows are not rendered anew
+    canvas.render(out);
+    assertEquals(2, counters.get(CANVAS, CALLS));
+    assertEquals(50, counters.get(CANVAS, CELLS));
+    assertEquals(10, counters.get(CANVAS, ROWS));
+
+    canvas.set(1, 1, Ansi.Color.GREEN);
+    canvas.render(new ByteArrayOutputStream(), ForkJoinPool.commonPool());
+    assertEquals(3, counters.get(CANVAS, CALLS));
+    assertEquals(60, counters.get(CANVAS, CELLS));
+    assertEquals(6, counters.get(CANVAS, ESCAPES));
+
+    // Cells are counted as they are rendered, without a separate measuring pass
+    assertEquals(0, counters.get(CANVAS, MEASURE_NANOS));
+  }
+
+  @Test
+  public void testAbort() {
+    final StringBuilder calls = new StringBuilder();
+    Instrumentation.setListener(new Instrumentation.Listener() {
+      @Override
+      public void onBegin(final Instrumentation.Source source) {
+        calls.append("begin ").append(source).append('\n');
+      }
+
+      @Override
+      public void onAbort(final Instrumentation.Source source) {
+        calls.append("abort ").append(source).append('\n');
+      }
+
+      @Override
+      public void onRender(final Instrumentation.Source source, final long cells, final long rows, final long escapes, final long output, final long measureNanos, final long layoutNanos, final long emitNanos) {
+        calls.append("render ").append(source).append('\n');
+      }
+    });
+
+    try {
+      Tables.printTable(new DictionaryColumn[] {null});
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+
+    try {
+      new Canvas(2, 2).render(new OutputStream() {
+        @Override
+        public void write(final int b) throws IOException {
+          throw new IOException();
+        }
+      });
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+
+    Ansi.toHtml("a");
+    assertEquals("begin TABLE\nabort TABLE\nbegin CANVAS\nabort CANVAS\nbegin HTML\nrender HTML\n", calls.toString());
+  }
+}
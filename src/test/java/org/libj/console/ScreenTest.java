@@ -0,0 +1,157 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.libj.lang.Strings.Align.*;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.libj.console.drawille.Canvas;
+
+public class ScreenTest {
+  private static String trim(final String str) {
+    final StringBuilder builder = new StringBuilder();
+    for (final String line : str.split("\n", -1)) { // [A]
+      if (builder.length() > 0)
+        builder.append('\n');
+
+      int end = line.length();
+      while (end > 0 && line.charAt(end - 1) == ' ')
+        --end;
+
+      builder.append(line, 0, end);
+    }
+
+    return builder.toString();
+  }
+
+  @Test
+  public void testTable() {
+    final String table = Tables.printTable(true, CENTER, LEFT, new String[][] {{"One", "a", Ansi.Color.RED.apply("b")}, {"Two", "1", "2"}});
+    final Screen screen = new Screen(40, 10);
+    screen.append(table);
+    final String[] lines = trim(table).split("\n");
+    for (int r = 0; r < lines.length; ++r) // [A]
+      assertEquals(Ansi.toHtml(lines[r]).replace("<span style=\"color:red;\">", "").replace("</span>", ""), screen.getText(r));
+
+    assertEquals("", screen.getText(lines.length));
+    final int col = screen.getText(4).indexOf('b');
+    assertEquals(Ansi.Color.RED, screen.getColor(col, 4));
+    assertEquals(Ansi.Color.DEFAULT, screen.getColor(col + 1, 4));
+    assertEquals(table.getBytes(StandardCharsets.UTF_8).length, screen.getByteCount());
+  }
+
+  @Test
+  public void testCanvas() throws IOException {
+    // Canvas encodes braille characters with the default charset
+    assumeTrue(StandardCharsets.UTF_8.equals(Charset.defaultCharset()));
+    final Canvas canvas = new Canvas(8, 3);
+    canvas.line(0, 0, 15, 11, Ansi.Color.GREEN);
+    final Screen bytes = new Screen(8, 4);
+    final byte[] rendered = canvas.toString().getBytes(StandardCharsets.UTF_8);
+    canvas.render(bytes);
+    assertEquals(rendered.length, bytes.getByteCount());
+
+    final Screen chars = new Screen(8, 4).append(canvas.toString());
+    assertEquals(bytes, chars);
+    assertEquals(bytes.hashCode(), chars.hashCode());
+    assertEquals(0x2800, bytes.getCodePoint(0, 0) & ~0xFF);
+    assertNotEquals(0x2800, bytes.getCodePoint(0, 0));
+    assertEquals(Ansi.Color.GREEN, bytes.getColor(0, 0));
+    assertEquals(Ansi.Intensity.DEFAULT, bytes.getIntensity(0, 0));
+    assertEquals(0x2800, bytes.getCodePoint(7, 0));
+    assertEquals(0, bytes.getCursorColumn());
+    assertEquals(3, bytes.getCursorRow());
+  }
+
+  @Test
+  public void testCsi() {
+    final char[] buf = new char[256];
+    int off = Csi.moveTo(buf, 0, 2, 3);
+    buf[off++] = 'x';
+    off = Csi.back(buf, off, 2);
+    buf[off++] = 'y';
+    off = Csi.down(buf, off, 1);
+    buf[off++] = 'z';
+    off = Csi.hideCursor(buf, off);
+    final Screen screen = new Screen(10, 4).append(new String(buf, 0, off));
+    assertEquals("\n yx\n  z\n", screen.toString());
+    assertFalse(screen.isCursorVisible());
+    assertEquals(3, screen.getCursorColumn());
+    assertEquals(2, screen.getCursorRow());
+
+    off = Csi.eraseLine(buf, 0, Csi.Erase.ALL);
+    off = Csi.moveTo(buf, off, 2, 3);
+    off = Csi.eraseLine(buf, off, Csi.Erase.TO_START);
+    screen.append(new String(buf, 0, off));
+    assertEquals("\n\n\n", screen.toString());
+  }
+
+  @Test
+  public void testWrapAndScroll() {
+    final Screen screen = new Screen(4, 3);
+    screen.append("abcdefgh\nij\nkl");
+    assertEquals("efgh\nij\nkl", screen.toString());
+    screen.append(Ansi.Intensity.BOLD.apply("m"));
+    assertEquals(Ansi.Intensity.BOLD, screen.getIntensity(2, 2));
+
+    final char[] buf = new char[64];
+    int off = Csi.scrollRegion(buf, 0, 1, 2);
+    off = Csi.moveTo(buf, off, 2, 1);
+    buf[off++] = '\n';
+    buf[off++] = 'x';
+    screen.append(new String(buf, 0, off));
+    assertEquals("ij\nx\nklm", screen.toString());
+  }
+
+  @Test
+  public void testDiff() {
+    final Screen screen = new Screen(10, 2).append("hello\nworld");
+    final Screen snapshot = new Screen(screen);
+    assertEquals(snapshot, screen);
+    assertEquals(0, screen.diff(snapshot).length);
+
+    screen.resetByteCount();
+    final char[] buf = new char[Csi.MAX_LENGTH];
+    screen.append(new String(buf, 0, Csi.moveTo(buf, 0, 2, 2))).append(Ansi.Color.RED.apply("a"));
+    assertNotEquals(snapshot, screen);
+    assertArrayEquals(new int[] {11}, screen.diff(snapshot));
+    assertEquals(6 + 7 + 1 + 7, screen.getByteCount());
+  }
+
+  @Test
+  public void testAlternateScreen() {
+    final Screen screen = new Screen(5, 2).append("main");
+    final char[] buf = new char[Csi.MAX_LENGTH];
+    screen.append(new String(buf, 0, Csi.alternateScreen(buf, 0, true))).append("alt");
+    assertEquals("    a\nlt", screen.toString());
+    screen.append(new String(buf, 0, Csi.alternateScreen(buf, 0, false)));
+    assertEquals("main\n", screen.toString());
+  }
+
+  @Test
+  public void testMalformed() {
+    final Screen screen = new Screen(4, 1);
+    screen.write(new byte[] {'a', (byte)0xE2, 'b', (byte)0xFF}, 0, 4);
+    assertEquals("a�b�", screen.toString());
+  }
+}
@@ -0,0 +1,243 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.libj.lang.Strings.Align.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the {@link Tables#printTable} overloads, over tables from 10 rows by 5 columns to 1M rows by 20 columns, with and
+ * without borders. Each variant of the data has its own {@link State}, so that only the variants of the selected benchmarks are
+ * allocated. Run with the {@code benchmark} profile, which reports the allocation rate with the GC profiler, and writes the results
+ * as JSON for comparison between commits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class TablesBenchmark {
+  @State(Scope.Benchmark)
+  public abstract static class Table {
+    @Param({"10x5", "1000x5", "1000x20", "100000x20", "1000000x20"})
+    public String shape;
+
+    @Param({"false", "true"})
+    public boolean borders;
+
+    @Setup
+    public void setup() {
+      final int x = shape.indexOf('x');
+      build(Integer.parseInt(shape.substring(0, x)), Integer.parseInt(shape.substring(x + 1)), new Random(1));
+    }
+
+    abstract void build(int rows, int columns, Random random);
+
+    /**
+     * Returns columns of {@code rows} rows with {@code cells} elements per cell, where the first column holds a single cell of row
+     * labels if {@code firstColumnOneCell} is true, and each column starts with its heading.
+     */
+    static String[][] columns(final int rows, final int columns, final int cells, final boolean firstColumnOneCell, final String heading, final boolean ansi, final Random random) {
+      final String[][] table = new String[columns][];
+      for (int c = 0; c < columns; ++c) { // [N]
+        final int n = c == 0 && firstColumnOneCell ? rows : rows * cells;
+        final String[] column = table[c] = new String[1 + n];
+        column[0] = c == 0 ? "Key" : heading + c;
+        for (int r = 1; r <= n; ++r) { // [N]
+          final String value = c == 0 ? "row" + r : String.valueOf(random.nextInt(1000000));
+          column[r] = ansi && (r & 1) == 0 ? Ansi.apply(value, (r & 2) == 0 ? Ansi.Color.RED : Ansi.Color.GREEN) : value;
+        }
+      }
+
+      return table;
+    }
+  }
+
+  public static class ObjectColumns extends Table {
+    Object[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = new Object[columns][];
+      for (int c = 0; c < columns; ++c) { // [N]
+        final Object[] column = this.columns[c] = new Object[1 + rows];
+        column[0] = c == 0 ? "Key" : "Column " + c;
+        for (int r = 1; r <= rows; ++r) // [N]
+          column[r] = c == 0 ? (Object)r : (Object)random.nextInt(1000000);
+      }
+    }
+  }
+
+  public static class StringColumns extends Table {
+    String[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = columns(rows, columns, 1, false, "Column ", false, random);
+    }
+  }
+
+  public static class ObjectData extends Table {
+    Object[] data;
+    String[] headings;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      data = new Object[rows * columns];
+      for (int i = 0; i < data.length; ++i) // [A]
+        data[i] = random.nextInt(1000000);
+
+      headings = new String[columns];
+      for (int c = 0; c < columns; ++c) // [N]
+        headings[c] = "Column " + c;
+    }
+  }
+
+  public static class StringData extends Table {
+    String[] data;
+    String[] headings;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      data = new String[rows * columns];
+      for (int i = 0; i < data.length; ++i) // [A]
+        data[i] = String.valueOf(random.nextInt(1000000));
+
+      headings = new String[columns];
+      for (int c = 0; c < columns; ++c) // [N]
+        headings[c] = "Column " + c;
+    }
+  }
+
+  public static class MultiCellColumns extends Table {
+    String[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = columns(rows, columns, 2, true, "Column ", false, random);
+    }
+  }
+
+  public static class MultiLineHeadingColumns extends Table {
+    String[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = columns(rows, columns, 1, false, "Measure\n(unit)\nColumn ", false, random);
+    }
+  }
+
+  public static class AnsiColumns extends Table {
+    String[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = columns(rows, columns, 1, false, "Column ", true, random);
+    }
+  }
+
+  public static class LowCardinalityColumns extends Table {
+    static final String[] STATUSES = {"OK", "WARN", "ERROR", "PENDING", "UNKNOWN"};
+    String[][] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = new String[columns][];
+      for (int c = 0; c < columns; ++c) { // [N]
+        final String[] column = this.columns[c] = new String[1 + rows];
+        column[0] = "Status " + c;
+        for (int r = 1; r <= rows; ++r) // [N]
+          column[r] = STATUSES[random.nextInt(STATUSES.length)];
+      }
+    }
+  }
+
+  public static class DictionaryColumns extends Table {
+    DictionaryColumn[] columns;
+
+    @Override
+    void build(final int rows, final int columns, final Random random) {
+      this.columns = new DictionaryColumn[columns];
+      for (int c = 0; c < columns; ++c) { // [N]
+        final byte[] codes = new byte[rows];
+        for (int r = 0; r < rows; ++r) // [N]
+          codes[r] = (byte)random.nextInt(LowCardinalityColumns.STATUSES.length);
+
+        this.columns[c] = new DictionaryColumn("Status " + c, LowCardinalityColumns.STATUSES, codes);
+      }
+    }
+  }
+
+  @Benchmark
+  public String objectColumns(final ObjectColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+
+  @Benchmark
+  public String stringColumns(final StringColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+
+  @Benchmark
+  public String objectData(final ObjectData table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.data, table.headings);
+  }
+
+  @Benchmark
+  public String stringData(final StringData table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.data, table.headings);
+  }
+
+  @Benchmark
+  public String multiCellColumns(final MultiCellColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, 2, true, table.columns);
+  }
+
+  @Benchmark
+  public String multiLineHeadingColumns(final MultiLineHeadingColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+
+  @Benchmark
+  public String ansiColumns(final AnsiColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+
+  @Benchmark
+  public String lowCardinalityColumns(final LowCardinalityColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+
+  @Benchmark
+  public String dictionaryColumns(final DictionaryColumns table) {
+    return Tables.printTable(table.borders, CENTER, LEFT, table.columns);
+  }
+}
@@ -16,6 +16,7 @@
 
 package org.libj.console;
 
+import static org.junit.Assert.*;
 import static org.libj.lang.Strings.Align.*;
 
 import java.util.ArrayList;
@@ -133,4 +134,59 @@ public class TablesTest {
     columns[3] = new String[] {"Three", "204", "20", "31", "3", "321", "32"};
     System.out.println(Tables.printTable(true, LEFT, LEFT, 2, true, columns));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testDisplayWidthAlignment() {
+    final String[][] columns = {
+      {"Name", "東京", "😀ok", "a\tb", "\033[?25lx", "\0337y", Ansi.Color.RED.apply("z")},
+      {"#", "1", "22", "333", "4", "55", "6"}
+    };
+
+    for (final Strings.Align align : Strings.Align.values()) { // [A]
+      final String[] lines = Tables.printTable(true, CENTER, align, columns).replaceAll(" +\n", "\n").replaceAll(" +$", "").split("\n");
+      assertEquals(10, lines.length);
+      for (final String line : lines) // [A]
+        assertEquals(line, DisplayWidth.of(lines[0]), DisplayWidth.of(line));
+    }
+
+    final String[] lines = Tables.printTable(true, CENTER, LEFT, columns).replaceAll(" +\n", "\n").split("\n");
+    assertEquals("║ Name ║  #  ║", lines[1]);
+    assertEquals("║ 東京 ║ 1   ║", lines[3]);
+    assertEquals("║ 😀ok ║ 22  ║", lines[4]);
+    assertEquals("║ a\tb   ║ 333 ║", lines[5]);
+    assertEquals("║ \033[?25lx    ║ 4   ║", lines[6]);
+    assertEquals("║ \0337y    ║ 55  ║", lines[7]);
+    assertEquals("║ " + Ansi.Color.RED.apply("z") + "    ║ 6   ║", lines[8]);
+  }
+
+  @Test
+  public void testDictionaryColumns() {
+    final String[] regions = {"us-east-1", "eu-west-1", "東京", null, Ansi.Color.RED.apply("down")};
+    final String[] levels = {"INFO", "WARN", "ERROR"};
+    final byte[] regionCodes = {0, 1, 2, 3, 4, 0, 0, 2};
+    final int[] levelCodes = {2, 1, 0, 0, 1};
+    final DictionaryColumn[] columns = {
+      new DictionaryColumn("Region", regions, regionCodes),
+      new DictionaryColumn("Log\nLevel", levels, levelCodes),
+      DictionaryColumn.of(null, "a", "b", "a")
+    };
+
+    final String[][] decoded = new String[columns.length][];
+    for (int c = 0; c < columns.length; ++c) { // [A]
+      final DictionaryColumn column = columns[c];
+      final String[] cells = decoded[c] = new String[1 + column.size()];
+      cells[0] = column.getHeading();
+      for (int r = 0; r < column.size(); ++r) // [N]
+        cells[1 + r] = column.get(r);
+    }
+
+    for (final boolean borders : new boolean[] {false, true}) { // [A]
+      for (final Strings.Align align : Strings.Align.values()) { // [A]
+        final String expected = Tables.printTable(borders, CENTER, align, decoded);
+        assertEquals(expected, Tables.printTable(borders, CENTER, align, columns));
+      }
+    }
+
+    assertEquals("null", Tables.printTable(false, CENTER, LEFT, new DictionaryColumn[0]));
+  }
+}
@@ -0,0 +1,171 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.libj.console.drawille.Canvas;
+import org.libj.lang.Strings;
+
+public class TerminalSinkTest {
+  private static final class Channel implements WritableByteChannel {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private int writes;
+    private boolean closed;
+
+    /** The number of following writes that fail */
+    private int failures;
+
+    /** The maximum number of bytes accepted by each write */
+    private int limit = Integer.MAX_VALUE;
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+      if (failures > 0) {
+        --failures;
+        throw new IOException("failure");
+      }
+
+      ++writes;
+      final int n = Math.min(limit, src.remaining());
+      for (int i = 0; i < n; ++i) // [N]
+        out.write(src.get());
+
+      return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !closed;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  @Test
+  public void testOneWritePerFrame() throws IOException {
+    final Channel channel = new Channel();
+    final Canvas canvas = new Canvas(20, 5);
+    canvas.line(0, 0, 39, 19, Ansi.Color.RED);
+    final String table = Tables.printTable(true, Strings.Align.CENTER, Strings.Align.LEFT, new String[][] {{"a", "1"}, {"b", "2"}});
+    try (final TerminalSink sink = new TerminalSink(channel, 1 << 16)) {
+      sink.append(table).append('\n');
+      canvas.render(sink);
+      sink.append(Ansi.Color.BLUE.apply("é⠀😀"));
+      assertEquals(0, channel.writes);
+      sink.flush();
+      assertEquals(1, channel.writes);
+      assertEquals(1, sink.getFlushCount());
+      assertTrue(sink.getLastFlushNanos() >= 0);
+      assertTrue(sink.getMaxFlushNanos() >= sink.getLastFlushNanos());
+
+      final String expected = table + "\n" + canvas + Ansi.Color.BLUE.apply("é⠀😀");
+      assertEquals(expected, new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+      assertEquals(channel.out.size(), sink.getByteCount());
+
+      // Empty frames are not written
+      sink.flush();
+      assertEquals(1, channel.writes);
+    }
+
+    assertTrue(channel.closed);
+  }
+
+  @Test
+  public void testOverflow() throws IOException {
+    final Channel channel = new Channel();
+    final TerminalSink sink = new TerminalSink(channel, 16);
+    final byte[] bytes = new byte[40];
+    for (int i = 0; i < bytes.length; ++i) // [A]
+      bytes[i] = (byte)('a' + i % 26);
+
+    sink.write(bytes, 0, bytes.length);
+    sink.append("⠀⠁");
+    sink.flush();
+    assertEquals(3, channel.writes);
+    assertEquals(new String(bytes, StandardCharsets.US_ASCII) + "⠀⠁", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testUnpairedSurrogate() throws IOException {
+    final Channel channel = new Channel();
+    final TerminalSink sink = new TerminalSink(channel, 16);
+    sink.append("a\ud83db").append('\udc00');
+    sink.flush();
+    assertEquals("a?b?", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testSurrogatePairCharByChar() throws IOException {
+    final Channel channel = new Channel();
+    final TerminalSink sink = new TerminalSink(channel, 16);
+    final String str = "a😀\u0000é🎉";
+    for (int i = 0; i < str.length(); ++i) // [N]
+      sink.append(str.charAt(i));
+
+    sink.append("x\ud83c").append("\udf89").append('\ud83c');
+    sink.flush();
+    assertEquals(str + "x🎉", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+    sink.append('\udf89').flush();
+    assertEquals(str + "x🎉🎉", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+
+    sink.append('\ud83c').write('!');
+    sink.append('\ud83c');
+    sink.close();
+    assertEquals(str + "x🎉🎉?!?", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testFailedWrite() throws IOException {
+    final Channel channel = new Channel();
+    final TerminalSink sink = new TerminalSink(channel, 16);
+    sink.append("frame");
+    channel.failures = 1;
+    try {
+      sink.flush();
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+
+    assertEquals(0, sink.getByteCount());
+    assertEquals(5, sink.size());
+
+    channel.limit = 2;
+    sink.append("!");
+    sink.flush();
+    assertEquals("frame!", new String(channel.out.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals(6, sink.getByteCount());
+    assertEquals(3, sink.getWriteCount());
+    assertEquals(0, sink.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCapacity() {
+    new TerminalSink(new Channel(), 0);
+  }
+}
@@ -20,6 +20,11 @@ package org.libj.console.drawille;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.console.Ansi;
@@ -71,6 +76,22 @@ public class CanvasTest {
     assertNotNull(canvas.get(1, 1));
   }
 
+  @Test
+  public void testColorPerCell() {
+    final Canvas canvas = new Canvas(2, 1);
+    canvas.set(0, 0, Ansi.Color.RED);
+    canvas.set(1, 3, Ansi.Color.BLUE);
+    canvas.set(2, 0, Ansi.Color.GREEN);
+    assertEquals(Ansi.Color.BLUE, canvas.get(0, 0));
+    assertEquals(Ansi.Color.BLUE, canvas.get(1, 3));
+    assertEquals(Ansi.Color.GREEN, canvas.get(2, 0));
+    assertNull(canvas.get(1, 0));
+    assertEquals(0x81, canvas.mask(0));
+    assertEquals(Ansi.Color.BLUE, canvas.cellColor(0));
+    assertEquals(0x01, canvas.mask(1));
+    assertEquals(Ansi.Color.GREEN, canvas.cellColor(1));
+  }
+
   @Test
   public void testChangeWorks() {
     final Canvas canvas = new Canvas(1, 1);
@@ -112,6 +133,224 @@ public class CanvasTest {
     assertNull(canvas.get(1, 1));
   }
 
+  @Test
+  public void testSetPoints() {
+    final Canvas canvas = new Canvas(2, 1);
+    final int[] xs = {0, 3, 9, 1};
+    final int[] ys = {0, 3, 0, 2};
+    try {
+      canvas.setPoints(xs, ys, 0, 4, Ansi.Color.RED);
+      fail("Expected DrawilleException");
+    }
+    catch (final DrawilleException e) {
+      assertEquals("Out of range {x:9,y:0}", e.getMessage());
+    }
+
+    assertNull(canvas.get(0, 0));
+    canvas.setPoints(xs, ys, 0, 2, Ansi.Color.RED);
+    assertEquals(Ansi.Color.RED, canvas.get(0, 0));
+    assertEquals(Ansi.Color.RED, canvas.get(3, 3));
+
+    canvas.clear();
+    canvas.setPoints(xs, ys, 1, 3, Ansi.Color.RED, Canvas.Bounds.CLIP);
+    assertNull(canvas.get(0, 0));
+    assertNotNull(canvas.get(3, 3));
+    assertNotNull(canvas.get(1, 2));
+  }
+
+  @Test
+  public void testSetPointsScaled() {
+    final Canvas canvas = new Canvas(2, 1);
+    final double[] xs = {0, 0.5, 1, Double.NaN};
+    final double[] ys = {1, 0.5, 0, 0};
+    canvas.setPoints(xs, ys, 0, 4, 3, 0, -3, 3, Ansi.Color.DEFAULT, Canvas.Bounds.CLIP);
+    assertNotNull(canvas.get(0, 0));
+    assertNotNull(canvas.get(2, 2));
+    assertNotNull(canvas.get(3, 3));
+    assertNull(canvas.get(0, 3));
+    try {
+      canvas.setPoints(xs, ys, 0, 4, 3, 0, -3, 3, Ansi.Color.DEFAULT, Canvas.Bounds.THROW);
+      fail("Expected DrawilleException");
+    }
+    catch (final DrawilleException e) {
+    }
+  }
+
+  @Test
+  public void testLine() {
+    final Canvas canvas = new Canvas(4, 2);
+    canvas.line(0, 0, 7, 7);
+    for (int x = 0; x < 8; ++x) // [N]
+      for (int y = 0; y < 8; ++y) // [N]
+        assertEquals(x == y, canvas.get(x, y) != null);
+
+    canvas.clear();
+    canvas.line(6, 1, 1, 1, Ansi.Color.RED);
+    for (int x = 0; x < 8; ++x) // [N]
+      assertEquals(x >= 1 && x <= 6 ? Ansi.Color.RED : null, canvas.get(x, 1));
+
+    canvas.line(3, 1, 3, 1, null);
+    assertNull(canvas.get(3, 1));
+  }
+
+  @Test
+  public void testLineClipping() {
+    final int margin = 20;
+    final Random random = new Random(1);
+    for (int n = 0; n < 500; ++n) { // [N]
+      final Canvas small = new Canvas(5, 3);
+      final Canvas large = new Canvas(5 + margin, 3 + margin / 2);
+      final int x1 = random.nextInt(50) - margin;
+      final int y1 = random.nextInt(40) - margin;
+      final int x2 = random.nextInt(50) - margin;
+      final int y2 = random.nextInt(40) - margin;
+      small.line(x1, y1, x2, y2);
+      large.line(x1 + margin, y1 + margin, x2 + margin, y2 + margin);
+      for (int x = 0; x < small.getWidth(); ++x) // [N]
+        for (int y = 0; y < small.getHeight(); ++y) // [N]
+          assertEquals(large.get(x + margin, y + margin), small.get(x, y));
+    }
+  }
+
+  @Test
+  public void testLineExtremeEndpoints() {
+    final Canvas canvas = new Canvas(10, 5);
+    canvas.line(-2000000000, -2000000000, 2000000000, 2000000000);
+    for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+      for (int y = 0; y < canvas.getHeight(); ++y) // [N]
+        assertEquals(x == y, canvas.get(x, y) != null);
+
+    canvas.clear();
+    canvas.line(-2000000000, -1000000000, 2000000000, 1000000000);
+    for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+      for (int y = 0; y < canvas.getHeight(); ++y) // [N]
+        assertEquals(y == (x + 1) / 2, canvas.get(x, y) != null);
+
+    canvas.clear();
+    canvas.line(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 20, Integer.MAX_VALUE);
+    canvas.line(Integer.MIN_VALUE, 3, Integer.MAX_VALUE, 3);
+    for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+      assertNotNull(canvas.get(x, 3));
+  }
+
+  @Test
+  public void testPolylineAndRectangle() {
+    final Canvas canvas = new Canvas(4, 2);
+    canvas.polyline(new int[] {0, 7, 7}, new int[] {0, 0, 7}, 0, 3, Ansi.Color.DEFAULT);
+    assertNotNull(canvas.get(3, 0));
+    assertNotNull(canvas.get(7, 4));
+    assertNull(canvas.get(3, 4));
+
+    canvas.clear();
+    canvas.rectangle(-2, 1, 6, 4, Ansi.Color.DEFAULT);
+    assertNotNull(canvas.get(0, 1));
+    assertNotNull(canvas.get(3, 3));
+    assertNotNull(canvas.get(3, 4));
+    assertNull(canvas.get(1, 2));
+    assertNull(canvas.get(4, 1));
+  }
+
+  @Test
+  public void testCircleAndEllipse() {
+    final Canvas canvas = new Canvas(10, 5);
+    canvas.circle(10, 10, 5, Ansi.Color.DEFAULT);
+    assertNotNull(canvas.get(15, 10));
+    assertNotNull(canvas.get(5, 10));
+    assertNotNull(canvas.get(10, 5));
+    assertNotNull(canvas.get(10, 15));
+    assertNull(canvas.get(10, 10));
+
+    canvas.clear();
+    canvas.ellipse(10, 10, 8, 3, Ansi.Color.DEFAULT);
+    assertNotNull(canvas.get(18, 10));
+    assertNotNull(canvas.get(2, 10));
+    assertNotNull(canvas.get(10, 7));
+    assertNotNull(canvas.get(10, 13));
+    assertNull(canvas.get(10, 10));
+
+    // Clipped primitives do not throw
+    canvas.circle(0, 0, 30, Ansi.Color.DEFAULT);
+    canvas.ellipse(-5, 25, 10, 10, Ansi.Color.DEFAULT);
+    canvas.line(-100, -100, 100, 100);
+  }
+
+  @Test
+  public void testLargeEllipse() {
+    // Only the leftmost extreme of the ellipse falls within the canvas, where its outline is a vertical line
+    final Canvas canvas = new Canvas(10, 5);
+    canvas.ellipse(10 + Canvas.MAX_RADIUS, 10, Canvas.MAX_RADIUS, Canvas.MAX_RADIUS - 100000, Ansi.Color.DEFAULT);
+    for (int y = 0; y < canvas.getHeight(); ++y) // [N]
+      for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+        assertEquals(x + "," + y, x == 10, canvas.get(x, y) != null);
+
+    try {
+      canvas.ellipse(0, 0, Canvas.MAX_RADIUS + 1, 1, Ansi.Color.DEFAULT);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Scene().ellipse(0, 0, 1, Canvas.MAX_RADIUS + 1, Ansi.Color.DEFAULT);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  private static Canvas random(final Random random, final int width, final int height) {
+    final Ansi.Color[] colors = Ansi.Color.values();
+    final Canvas canvas = new Canvas(width, height);
+    for (int i = 0, i$ = canvas.getWidth() * canvas.getHeight() / 2; i < i$; ++i) // [N]
+      canvas.set(random.nextInt(canvas.getWidth()), random.nextInt(canvas.getHeight()), colors[random.nextInt(colors.length)]);
+
+    return canvas;
+  }
+
+  @Test
+  public void testBlit() {
+    final Random random = new Random(3);
+    for (int n = 0; n < 2000; ++n) { // [N]
+      final Canvas src = random(random, 1 + random.nextInt(20), 1 + random.nextInt(5));
+      final Canvas dst = random(random, 1 + random.nextInt(20), 1 + random.nextInt(5));
+      final Canvas expected = dst.copy();
+      final Canvas.Op op = Canvas.Op.values()[n % 4];
+      final int sx = random.nextInt(src.getWidth() + 8) - 4;
+      final int sy = random.nextInt(src.getHeight() + 8) - 4;
+      final int dx = n % 3 == 0 ? sx + 2 * (random.nextInt(5) - 2) : random.nextInt(dst.getWidth() + 8) - 4;
+      final int dy = n % 3 == 0 ? sy + 4 * (random.nextInt(3) - 1) : random.nextInt(dst.getHeight() + 8) - 4;
+      final int width = random.nextInt(src.getWidth() + 4);
+      final int height = random.nextInt(src.getHeight() + 4);
+      for (int y = 0; y < height; ++y) { // [N]
+        for (int x = 0; x < width; ++x) { // [N]
+          if (sx + x < 0 || sy + y < 0 || sx + x >= src.getWidth() || sy + y >= src.getHeight() || dx + x < 0 || dy + y < 0 || dx + x >= dst.getWidth() || dy + y >= dst.getHeight())
+            continue;
+
+          final Ansi.Color s = src.get(sx + x, sy + y);
+          final Ansi.Color d = expected.get(dx + x, dy + y);
+          if (op == Canvas.Op.AND ? s == null : op == Canvas.Op.REPLACE || s != null)
+            expected.change(dx + x, dy + y, op == Canvas.Op.AND || op == Canvas.Op.XOR && d != null ? null : s);
+        }
+      }
+
+      dst.blit(src, sx, sy, width, height, dx, dy, op);
+      for (int y = 0; y < dst.getHeight(); ++y) // [N]
+        for (int x = 0; x < dst.getWidth(); ++x) // [N]
+          assertEquals(op + " (" + x + "," + y + ")", expected.get(x, y) != null, dst.get(x, y) != null);
+    }
+  }
+
+  @Test
+  public void testBlitSelf() {
+    final Canvas canvas = new Canvas(4, 2);
+    canvas.line(0, 0, 7, 0, Ansi.Color.RED);
+    canvas.blit(canvas, 0, 0, 8, 4, 2, 4, Canvas.Op.OR);
+    assertEquals(Ansi.Color.RED, canvas.get(2, 4));
+    assertEquals(Ansi.Color.RED, canvas.get(7, 4));
+    assertNull(canvas.get(1, 4));
+    assertNotNull(canvas.get(0, 0));
+  }
+
   @Test
   public void testRenderOverload() {
     try {
@@ -133,4 +372,185 @@ public class CanvasTest {
     }
     canvas.render();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testFillPolygon() {
+    final Random random = new Random(5);
+    for (int n = 0; n < 500; ++n) { // [N]
+      final int len = 3 + random.nextInt(8);
+      final int[] xs = new int[len];
+      final int[] ys = new int[len];
+      for (int i = 0; i < len; ++i) { // [A]
+        xs[i] = random.nextInt(60) - 10;
+        ys[i] = random.nextInt(40) - 10;
+      }
+
+      final Canvas actual = new Canvas(20, 5);
+      actual.fillPolygon(xs, ys, 0, len, Ansi.Color.GREEN);
+
+      final Canvas expected = new Canvas(20, 5);
+      final double[] crossings = new double[len];
+      for (int y = 0; y < expected.getHeight(); ++y) { // [N]
+        int crossed = 0;
+        for (int i = 0; i < len; ++i) { // [A]
+          final int j = (i + 1) % len;
+          if (y >= Math.min(ys[i], ys[j]) && y < Math.max(ys[i], ys[j]))
+            crossings[crossed++] = xs[i] + (double)(y - ys[i]) * (xs[j] - xs[i]) / (ys[j] - ys[i]);
+        }
+
+        Arrays.sort(crossings, 0, crossed);
+        for (int x = 0; x < expected.getWidth(); ++x) // [N]
+          for (int k = 0; k + 1 < crossed; k += 2) // [N]
+            if (crossings[k] <= x && x <= crossings[k + 1])
+              expected.set(x, y, Ansi.Color.GREEN);
+      }
+
+      expected.polyline(xs, ys, 0, len, Ansi.Color.GREEN);
+      expected.line(xs[len - 1], ys[len - 1], xs[0], ys[0], Ansi.Color.GREEN);
+      assertEquals(expected.toString(), actual.toString());
+    }
+  }
+
+  @Test
+  public void testFill() {
+    final Random random = new Random(7);
+    for (int n = 0; n < 200; ++n) { // [N]
+      final Canvas actual = new Canvas(1 + random.nextInt(20), 1 + random.nextInt(6));
+      for (int i = 0; i < 4; ++i) // [N]
+        actual.line(random.nextInt(actual.getWidth()), random.nextInt(actual.getHeight()), random.nextInt(actual.getWidth()), random.nextInt(actual.getHeight()), Ansi.Color.RED);
+
+      final Canvas expected = actual.copy();
+      final int x = random.nextInt(actual.getWidth());
+      final int y = random.nextInt(actual.getHeight());
+      actual.fill(x, y, Ansi.Color.BLUE);
+
+      if (expected.get(x, y) == null) {
+        final ArrayDeque<int[]> queue = new ArrayDeque<>();
+        expected.set(x, y, Ansi.Color.BLUE);
+        queue.add(new int[] {x, y});
+        while (!queue.isEmpty()) {
+          final int[] p = queue.poll();
+          for (final int[] d : new int[][] {{1, 0}, {-1, 0}, {0, 1}, {0, -1}}) { // [A]
+            final int px = p[0] + d[0];
+            final int py = p[1] + d[1];
+            if (px >= 0 && py >= 0 && px < expected.getWidth() && py < expected.getHeight() && expected.get(px, py) == null) {
+              expected.set(px, py, Ansi.Color.BLUE);
+              queue.add(new int[] {px, py});
+            }
+          }
+        }
+      }
+
+      for (int py = 0; py < expected.getHeight(); ++py) // [N]
+        for (int px = 0; px < expected.getWidth(); ++px) // [N]
+          assertEquals(expected.get(px, py) != null, actual.get(px, py) != null);
+    }
+  }
+
+  @Test
+  public void testFillLarge() {
+    final Canvas canvas = new Canvas(500, 100);
+    canvas.circle(500, 200, 150, Ansi.Color.RED);
+    canvas.fill(0, 0, Ansi.Color.BLUE);
+    assertEquals(Ansi.Color.BLUE, canvas.get(999, 399));
+    assertNull(canvas.get(500, 200));
+
+    final ScrollingCanvas scrolling = new ScrollingCanvas(10, 2);
+    scrolling.scrollLeft(3);
+    scrolling.fill(0, 0, Ansi.Color.BLUE);
+    assertEquals(Ansi.Color.BLUE, scrolling.get(19, 7));
+  }
+
+  @Test
+  public void testRenderCache() {
+    final int[] encoded = new int[1];
+    final Canvas canvas = new Canvas(10, 5) {
+      @Override
+      protected int mask(final int i) {
+        ++encoded[0];
+        return super.mask(i);
+      }
+    };
+
+    canvas.line(0, 0, 19, 19);
+    canvas.toString();
+    assertEquals(50, encoded[0]);
+    canvas.toString();
+    assertEquals(50, encoded[0]);
+
+    canvas.set(3, 9, Ansi.Color.RED);
+    assertEquals(canvas.copy().toString(), canvas.toString());
+    assertEquals(50 + 10, encoded[0]);
+
+    // Changing only the color of an activated pixel invalidates its row
+    canvas.set(3, 9, Ansi.Color.GREEN);
+    assertEquals(canvas.copy().toString(), canvas.toString());
+    assertEquals(50 + 10 + 10, encoded[0]);
+
+    canvas.clear();
+    assertEquals(new Canvas(10, 5).toString(), canvas.toString());
+  }
+
+  @Test
+  public void testRenderCacheSubclasses() {
+    final Random random = new Random(17);
+    for (final Canvas canvas : new Canvas[] {new ConcurrentCanvas(12, 4), new ScrollingCanvas(12, 4), new SparseCanvas(12, 4), new MipmapCanvas(12, 4)}) { // [A]
+      for (int n = 0; n < 50; ++n) { // [N]
+        final Ansi.Color color = n % 3 == 0 ? null : Ansi.Color.values()[random.nextInt(8)];
+        switch (n % 4) {
+          case 0:
+            canvas.line(random.nextInt(24), random.nextInt(16), random.nextInt(24), random.nextInt(16), color);
+            break;
+          case 1:
+            canvas.fillPolygon(new int[] {random.nextInt(24), random.nextInt(24), random.nextInt(24)}, new int[] {random.nextInt(16), random.nextInt(16), random.nextInt(16)}, 0, 3, color);
+            break;
+          case 2:
+            canvas.blit(random(random, 12, 4), 0, 0, 24, 16, random.nextInt(8) - 4, random.nextInt(8) - 4, Canvas.Op.values()[n % 4]);
+            break;
+          default:
+            if (canvas instanceof ScrollingCanvas)
+              ((ScrollingCanvas)canvas).scrollLeft(random.nextInt(3));
+            else
+              canvas.change(random.nextInt(24), random.nextInt(16), color);
+        }
+
+        assertEquals(canvas.getClass().getSimpleName(), canvas.copy().toString(), canvas.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testToHtml() throws IOException {
+    final Canvas canvas = new Canvas(4, 2);
+    canvas.set(0, 0, Ansi.Color.RED);
+    canvas.set(3, 1, Ansi.Color.RED);
+    canvas.set(4, 0, Ansi.Color.GREEN);
+    canvas.set(1, 4);
+
+    final String dot1 = String.valueOf((char)0x2801);
+    final String dot2 = String.valueOf((char)0x2810);
+    final String dot3 = String.valueOf((char)0x2808);
+    final String empty = String.valueOf((char)0x2800);
+    final String expected = "<span style=\"color:red;\">" + dot1 + dot2 + "</span><span style=\"color:lightgreen;\">" + dot1 + empty + "\n" + "</span>" + dot3 + empty + empty + empty + "\n";
+    assertEquals(expected, canvas.toHtml(new StringWriter()).toString());
+  }
+
+  @Test
+  public void testToSvg() throws IOException {
+    final Canvas canvas = new Canvas(4, 2);
+    canvas.line(1, 2, 5, 2, Ansi.Color.RED);
+    canvas.set(6, 2, Ansi.Color.BLUE);
+    canvas.set(0, 7);
+
+    final String runs = canvas.toSvg(new StringWriter(), Canvas.Shape.RUNS).toString();
+    assertTrue(runs.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"8\" height=\"8\" viewBox=\"0 0 8 8\">\n"));
+    assertTrue(runs.contains("<rect x=\"1\" y=\"2\" width=\"5\" height=\"1\" fill=\"red\"/>\n<rect x=\"6\" y=\"2\" width=\"1\" height=\"1\" fill=\"blue\"/>\n"));
+    assertTrue(runs.contains("<rect x=\"0\" y=\"7\" width=\"1\" height=\"1\" fill=\"currentColor\"/>\n"));
+    assertTrue(runs.endsWith("</svg>\n"));
+    assertEquals(3, runs.split("<rect").length - 1);
+
+    final String dots = canvas.toSvg(new StringWriter(), Canvas.Shape.DOTS).toString();
+    assertEquals(7, dots.split("<circle").length - 1);
+    assertTrue(dots.contains("<circle cx=\"6.5\" cy=\"2.5\" r=\"0.4\" fill=\"blue\"/>"));
+  }
+}
@@ -0,0 +1,101 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class ConcurrentCanvasTest {
+  @Test
+  public void testSetAndUnset() {
+    final ConcurrentCanvas canvas = new ConcurrentCanvas(2, 1, Ansi.Color.RED);
+    assertEquals(Ansi.Color.RED, canvas.get(0, 0));
+    assertNull(canvas.get(1, 1));
+    canvas.set(1, 1, Ansi.Color.BLUE);
+    assertEquals(Ansi.Color.BLUE, canvas.get(1, 1));
+    canvas.unset(1, 1);
+    assertNull(canvas.get(1, 1));
+    canvas.clear();
+    assertNull(canvas.get(0, 0));
+  }
+
+  @Test
+  public void testConcurrentDraw() throws InterruptedException {
+    final int threads = 8;
+    final ConcurrentCanvas canvas = new ConcurrentCanvas(40, 10);
+    final Canvas expected = new Canvas(40, 10);
+    final Thread[] workers = new Thread[threads];
+    for (int t = 0; t < threads; ++t) { // [N]
+      final int offset = t;
+      for (int x = offset; x < canvas.getWidth(); x += threads) // [N]
+        expected.line(x, 0, canvas.getWidth() - 1 - x, canvas.getHeight() - 1);
+
+      workers[t] = new Thread(() -> {
+        for (int i = 0; i < 100; ++i) // [N]
+          for (int x = offset; x < canvas.getWidth(); x += threads) // [N]
+            canvas.line(x, 0, canvas.getWidth() - 1 - x, canvas.getHeight() - 1);
+      });
+      workers[t].start();
+    }
+
+    for (final Thread worker : workers) // [A]
+      worker.join();
+
+    assertEquals(expected.toString(), canvas.snapshot().toString());
+    assertEquals(expected.toString(), canvas.toString());
+  }
+
+  @Test
+  public void testSnapshotSubclasses() {
+    final ConcurrentCanvas canvas = new ConcurrentCanvas(20, 6);
+    final Canvas expected = new Canvas(20, 6);
+    for (final Canvas c : new Canvas[] {canvas, expected}) { // [A]
+      c.line(0, 0, 39, 23, Ansi.Color.RED);
+      c.circle(20, 12, 9, Ansi.Color.BLUE);
+    }
+
+    final SparseCanvas sparse = new SparseCanvas(20, 6);
+    assertSame(sparse, canvas.snapshot(sparse));
+    assertEquals(expected.toString(), sparse.toString());
+
+    final ScrollingCanvas scrolling = new ScrollingCanvas(20, 6);
+    scrolling.set(0, 0);
+    scrolling.scrollLeft(3);
+    assertEquals(expected.toString(), canvas.snapshot(scrolling).toString());
+
+    final MipmapCanvas mipmap = new MipmapCanvas(20, 6);
+    mipmap.set(39, 23);
+    canvas.snapshot(mipmap);
+    assertEquals(expected.toString(), mipmap.toString());
+    final MipmapCanvas drawn = new MipmapCanvas(20, 6);
+    drawn.blit(expected, 0, 0, 40, 24, 0, 0, Canvas.Op.REPLACE);
+    for (int level = 1; level < mipmap.getLevels(); ++level) // [N]
+      assertEquals(drawn.getLevel(level).toString(), mipmap.getLevel(level).toString());
+  }
+
+  @Test
+  public void testSnapshotDimensions() {
+    try {
+      new ConcurrentCanvas(2, 2).snapshot(new Canvas(2, 3));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class DisplayListTest {
+  @Test
+  public void testReplay() {
+    final Turtle turtle = new Turtle(20, 10);
+    final DisplayList list = new DisplayList();
+    turtle.move(5, 5);
+    list.move(5, 5);
+    turtle.down();
+    list.down();
+    for (int i = 0; i < 4; ++i) { // [N]
+      turtle.forward(20);
+      turtle.right(90);
+      list.forward(20);
+      list.right(90);
+    }
+
+    turtle.up();
+    list.up();
+    turtle.move(30, 30);
+    list.move(30, 30);
+    turtle.down();
+    list.down();
+    turtle.move(35, 10);
+    list.move(35, 10);
+
+    assertEquals(5, list.size());
+    final Canvas canvas = new Canvas(20, 10);
+    list.draw(canvas, Ansi.Color.DEFAULT);
+    assertEquals(turtle.toString(), canvas.toString());
+  }
+
+  @Test
+  public void testTransform() {
+    final DisplayList list = new DisplayList();
+    list.down();
+    list.move(10, 0);
+    list.move(10, 5);
+
+    final Canvas expected = new Canvas(20, 10);
+    expected.line(22, 5, 22, 25);
+    expected.line(22, 25, 12, 25);
+
+    final Canvas actual = new Canvas(20, 10);
+    list.draw(actual, 22, 5, 2, 90, Ansi.Color.DEFAULT);
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Test
+  public void testClear() {
+    final DisplayList list = new DisplayList();
+    list.down();
+    list.forward(10);
+    list.clear();
+    assertEquals(0, list.size());
+    assertEquals(0, list.getX(), 0);
+
+    final Canvas canvas = new Canvas(4, 4);
+    list.draw(canvas, Ansi.Color.DEFAULT);
+    assertEquals(new Canvas(4, 4).toString(), canvas.toString());
+  }
+}
@@ -0,0 +1,166 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.libj.console.Ansi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of {@link Canvas#render(java.io.OutputStream)} and {@link Canvas#toString()} over several sizes and densities of
+ * colors, of {@link Turtle#move(double,double)}, and of {@link BrailleMap#toString()}. Run with the {@code benchmark} profile, which
+ * reports the bytes allocated per operation with the GC profiler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DrawilleBenchmark {
+  private static final int MOVES = 1000;
+
+  @State(Scope.Benchmark)
+  public static class Screen {
+    /** Width by height of the canvas, in braille characters */
+    @Param({"40x10", "200x50", "1000x250"})
+    public String size;
+
+    /**
+     * The density of colors: {@code none} for the default color, {@code sparse} for 1 in 10 braille characters colored, and
+     * {@code dense} for every braille character colored.
+     */
+    @Param({"none", "sparse", "dense"})
+    public String colors;
+
+    Canvas canvas;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int row;
+
+    @Setup
+    public void setup() {
+      final int x = size.indexOf('x');
+      canvas = new Canvas(Integer.parseInt(size.substring(0, x)), Integer.parseInt(size.substring(x + 1)));
+      final Random random = new Random(1);
+      final Ansi.Color[] values = Ansi.Color.values();
+      for (int i = 0, i$ = canvas.getWidth() * canvas.getHeight() / 2; i < i$; ++i) { // [N]
+        final Ansi.Color color = "dense".equals(colors) || "sparse".equals(colors) && random.nextInt(10) == 0 ? values[random.nextInt(values.length)] : Ansi.Color.DEFAULT;
+        canvas.set(random.nextInt(canvas.getWidth()), random.nextInt(canvas.getHeight()), color);
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Moves {
+    @Param({"false", "true"})
+    public boolean clipped;
+
+    final Turtle turtle = new Turtle(200, 50);
+    final double[] xs = new double[MOVES];
+    final double[] ys = new double[MOVES];
+
+    @Setup
+    public void setup() {
+      final Random random = new Random(1);
+      final int margin = clipped ? 200 : 0;
+      for (int i = 0; i < MOVES; ++i) { // [A]
+        xs[i] = random.nextDouble() * (turtle.getWidth() + 2 * margin) - margin;
+        ys[i] = random.nextDouble() * (turtle.getHeight() + 2 * margin) - margin;
+      }
+
+      turtle.down();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Maps {
+    @Param({"false", "true"})
+    public boolean colored;
+
+    final BrailleMap[] maps = new BrailleMap[256];
+    int next;
+
+    @Setup
+    public void setup() {
+      final Ansi.Color[] values = Ansi.Color.values();
+      for (int m = 0; m < maps.length; ++m) { // [A]
+        final BrailleMap map = maps[m] = new BrailleMap();
+        for (int i = 0; i < 8; ++i) // [N]
+          if ((m & 1 << i) != 0)
+            map.set(i & 1, i >> 1, colored ? values[(m + i) % values.length] : Ansi.Color.DEFAULT);
+      }
+    }
+  }
+
+  /**
+   * Renders a canvas in which every row has changed, so that every braille character is rendered anew.
+   */
+  @Benchmark
+  public ByteArrayOutputStream render(final Screen screen) throws IOException {
+    screen.out.reset();
+    screen.canvas.invalidate();
+    screen.canvas.render(screen.out);
+    return screen.out;
+  }
+
+  /**
+   * Renders a canvas in which 1 row has changed since the previous render.
+   */
+  @Benchmark
+  public ByteArrayOutputStream renderOneRowChanged(final Screen screen) throws IOException {
+    screen.out.reset();
+    screen.canvas.invalidate(screen.row);
+    screen.row = (screen.row + 1) % screen.canvas.height;
+    screen.canvas.render(screen.out);
+    return screen.out;
+  }
+
+  @Benchmark
+  public String toString(final Screen screen) {
+    screen.canvas.invalidate();
+    return screen.canvas.toString();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MOVES)
+  public Turtle turtleMove(final Moves moves) {
+    final Turtle turtle = moves.turtle;
+    for (int i = 0; i < MOVES; ++i) // [A]
+      turtle.move(moves.xs[i], moves.ys[i]);
+
+    return turtle;
+  }
+
+  @Benchmark
+  public String brailleMapToString(final Maps maps) {
+    return maps.maps[maps.next++ & 0xff].toString();
+  }
+}
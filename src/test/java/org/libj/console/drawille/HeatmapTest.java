@@ -0,0 +1,70 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class HeatmapTest {
+  @Test
+  public void testRecord() {
+    final Heatmap heatmap = new Heatmap(0, 2, 2, Histogram.Scale.LINEAR, 0, 2, 2, Histogram.Scale.LINEAR);
+    heatmap.record(0.5, 0.5);
+    heatmap.record(1.5, 0.5);
+    heatmap.record(1.5, 1.5);
+    heatmap.record(9, 9);
+    heatmap.record(Double.NaN, 1);
+    final long[] counts = new long[4];
+    assertEquals(4, heatmap.getCounts(counts));
+    assertArrayEquals(new long[] {1, 1, 0, 2}, counts);
+  }
+
+  @Test
+  public void testDraw() {
+    final Heatmap heatmap = new Heatmap(0, 2, 2, Histogram.Scale.LINEAR, 0, 2, 2, Histogram.Scale.LINEAR);
+    for (int i = 0; i < 8; ++i) // [N]
+      heatmap.record(1.5, 1.5);
+
+    heatmap.record(0.5, 0.5);
+    final Canvas canvas = new Canvas(2, 2);
+    heatmap.draw(canvas, Ansi.Color.BLUE, Ansi.Color.RED);
+
+    // Top right is at full intensity
+    assertEquals(0xff, canvas.mask(1));
+    assertEquals(Ansi.Color.RED, canvas.get(2, 0));
+
+    // Bottom left is at low intensity
+    assertEquals(1, Integer.bitCount(canvas.mask(2)));
+    assertEquals(0, canvas.mask(0));
+    assertEquals(0, canvas.mask(3));
+
+    // Braille characters whose counts dropped to zero are cleared when redrawn
+    heatmap.reset();
+    heatmap.record(0.5, 1.5);
+    heatmap.draw(canvas, Ansi.Color.BLUE, Ansi.Color.RED);
+    assertEquals(0xff, canvas.mask(0));
+    assertEquals(0, canvas.mask(1));
+    assertEquals(0, canvas.mask(2));
+
+    heatmap.reset();
+    heatmap.draw(canvas);
+    for (int i = 0; i < 4; ++i) // [N]
+      assertEquals(0, canvas.mask(i));
+  }
+}
@@ -0,0 +1,126 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class HistogramTest {
+  @Test
+  public void testLinear() {
+    final Histogram histogram = new Histogram(0, 10, 5, Histogram.Scale.LINEAR);
+    for (final double value : new double[] {-1, 0, 1.9, 2, 5, 9.9, 10, 100, Double.NaN}) // [A]
+      histogram.record(value);
+
+    final long[] counts = new long[histogram.getBins()];
+    assertEquals(8, histogram.getCounts(counts));
+    assertArrayEquals(new long[] {3, 1, 1, 0, 3}, counts);
+
+    histogram.reset();
+    assertEquals(0, histogram.getCounts(counts));
+  }
+
+  @Test
+  public void testLog() {
+    final Histogram histogram = new Histogram(1, 1000, 3, Histogram.Scale.LOG);
+    for (final double value : new double[] {1, 9, 10, 99, 100, 999, 5000}) // [A]
+      histogram.record(value);
+
+    final long[] counts = new long[3];
+    histogram.getCounts(counts);
+    assertArrayEquals(new long[] {2, 2, 3}, counts);
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new Histogram(0, 10, 0, Histogram.Scale.LINEAR);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Histogram(10, 10, 1, Histogram.Scale.LINEAR);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Histogram(0, 10, 1, Histogram.Scale.LOG);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testConcurrentRecord() throws InterruptedException {
+    final Histogram histogram = new Histogram(0, 100, 100, Histogram.Scale.LINEAR);
+    final Thread[] threads = new Thread[8];
+    for (int t = 0; t < threads.length; ++t) { // [A]
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 100000; ++i) // [N]
+          histogram.record(i % 100);
+      });
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads) // [A]
+      thread.join();
+
+    final long[] counts = new long[100];
+    assertEquals(threads.length * 100000, histogram.getCounts(counts));
+    for (final long count : counts) // [A]
+      assertEquals(threads.length * 1000, count);
+  }
+
+  @Test
+  public void testDraw() {
+    final Histogram histogram = new Histogram(0, 4, 4, Histogram.Scale.LINEAR);
+    for (int i = 0; i < 4; ++i) // [N]
+      for (int j = 0; j <= i; ++j) // [N]
+        histogram.record(i);
+
+    final Canvas canvas = new Canvas(2, 2);
+    histogram.draw(canvas, Ansi.Color.BLUE);
+    assertNotNull(canvas.get(3, 0));
+    assertNull(canvas.get(2, 0));
+    assertNotNull(canvas.get(2, 2));
+    assertNotNull(canvas.get(0, 7));
+    assertNull(canvas.get(0, 5));
+
+    // Pixels above the bars that shrank are cleared when redrawn
+    histogram.reset();
+    histogram.record(0);
+    histogram.record(1);
+    histogram.record(1);
+    histogram.draw(canvas, Ansi.Color.RED);
+    assertEquals(Ansi.Color.RED, canvas.get(1, 0));
+    assertNull(canvas.get(3, 7));
+    assertNull(canvas.get(0, 3));
+    assertEquals(Ansi.Color.RED, canvas.get(0, 4));
+
+    histogram.reset();
+    histogram.draw(canvas, Ansi.Color.RED);
+    for (int i = 0; i < 4; ++i) // [N]
+      assertEquals(0, canvas.mask(i));
+  }
+}
@@ -0,0 +1,146 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class ImagesTest {
+  private static int count(final Canvas canvas) {
+    int count = 0;
+    for (int y = 0; y < canvas.getHeight(); ++y) // [N]
+      for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+        if (canvas.get(x, y) != null)
+          ++count;
+
+    return count;
+  }
+
+  private static int[] gray(final int width, final int height, final int level) {
+    final int[] argb = new int[width * height];
+    Arrays.fill(argb, 0xff000000 | level << 16 | level << 8 | level);
+    return argb;
+  }
+
+  @Test
+  public void testThreshold() {
+    final int[] argb = new int[8 * 8];
+    for (int i = 0; i < argb.length; ++i) // [A]
+      argb[i] = i % 8 < 4 ? 0xffffffff : 0xff000000;
+
+    final Canvas canvas = new Canvas(4, 4);
+    Images.draw(canvas, argb, 8, 8, Images.Dither.THRESHOLD, false, null);
+    for (int y = 0; y < canvas.getHeight(); ++y) // [N]
+      for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+        assertEquals(x < 4, canvas.get(x, y) != null);
+  }
+
+  @Test
+  public void testDensity() {
+    final int[] argb = gray(100, 100, 128);
+    for (final Images.Dither dither : new Images.Dither[] {Images.Dither.ORDERED, Images.Dither.FLOYD_STEINBERG}) { // [A]
+      final Canvas canvas = new Canvas(40, 20);
+      Images.draw(canvas, argb, 100, 100, dither, false, null);
+      final int count = count(canvas);
+      final int area = canvas.getWidth() * canvas.getHeight();
+      assertTrue(dither + ": " + count, Math.abs(count - area / 2) < area / 20);
+    }
+  }
+
+  @Test
+  public void testParallel() {
+    final int width = 317;
+    final int height = 211;
+    final int[] argb = new int[width * height];
+    for (int i = 0; i < argb.length; ++i) // [A]
+      argb[i] = 0xff000000 | (int)(i * 2654435761L >>> 8) & 0xffffff;
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final Images.Dither dither : Images.Dither.values()) { // [A]
+        final Canvas expected = new Canvas(90, 70);
+        final Canvas actual = new Canvas(90, 70);
+        Images.draw(expected, argb, width, height, dither, true, null);
+        Images.draw(actual, argb, width, height, dither, true, pool);
+        assertEquals(dither.toString(), expected.toString(), actual.toString());
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelMipmap() {
+    final int width = 317;
+    final int height = 211;
+    final int[] argb = new int[width * height];
+    for (int i = 0; i < argb.length; ++i) // [A]
+      argb[i] = 0xff000000 | (int)(i * 2654435761L >>> 8) & 0xffffff;
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (final Images.Dither dither : Images.Dither.values()) { // [A]
+        final MipmapCanvas expected = new MipmapCanvas(90, 70);
+        final MipmapCanvas actual = new MipmapCanvas(90, 70);
+        Images.draw(expected, argb, width, height, dither, true, null);
+        Images.draw(actual, argb, width, height, dither, true, pool);
+        assertEquals(expected.getLevels(), actual.getLevels());
+        for (int level = 0; level < expected.getLevels(); ++level) // [N]
+          assertEquals(dither + " @ " + level, expected.getLevel(level).toString(), actual.getLevel(level).toString());
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testColor() {
+    final BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < 4; ++y) // [N]
+      for (int x = 0; x < 4; ++x) // [N]
+        image.setRGB(x, y, 0xffff2020);
+
+    final Canvas canvas = new Canvas(2, 1);
+    Images.draw(canvas, image, Images.Dither.ORDERED, true, null);
+    assertEquals(Ansi.Color.RED, canvas.mask(0) == 0 ? null : canvas.cellColor(0));
+  }
+
+  @Test
+  public void testInvalid() {
+    try {
+      Images.draw(new Canvas(2, 2), new int[3], 2, 2, Images.Dither.ORDERED, false, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Images.draw(new Canvas(2, 2), new int[4], 2, 2, null, false, null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+}
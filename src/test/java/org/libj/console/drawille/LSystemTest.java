@@ -0,0 +1,88 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class LSystemTest {
+  @Test
+  public void testExpand() {
+    final LSystem system = new LSystem("A").rule('A', "AB").rule('B', "A");
+    assertEquals("A", system.expand(0));
+    assertEquals("ABAAB", system.expand(3));
+  }
+
+  @Test
+  public void testKoch() {
+    final LSystem koch = new LSystem("F").rule('F', "F+F--F+F");
+    final DisplayList list = new DisplayList();
+    koch.record(list, 6, 1, 60);
+    assertEquals(4096, list.size());
+    assertEquals(729, list.getX(), 1e-6);
+    assertEquals(0, list.getY(), 1e-6);
+  }
+
+  @Test
+  public void testBranches() {
+    final LSystem plant = new LSystem("F").rule('F', "F[+F]F[-F]F");
+    final DisplayList list = new DisplayList();
+    list.move(40, 79);
+    list.right(-90);
+    plant.record(list, 3, 3, 25);
+    assertEquals(40, list.getX(), 1e-6);
+    assertEquals(79 - 27 * 3, list.getY(), 1e-6);
+
+    final Canvas canvas = new Canvas(40, 20);
+    list.draw(canvas, Ansi.Color.DEFAULT);
+    assertNotNull(canvas.get(40, 0));
+    assertNotNull(canvas.get(40, 79));
+  }
+
+  @Test
+  public void testTurtle() {
+    final LSystem plant = new LSystem("F").rule('F', "F[+F]F[-F]F");
+    final DisplayList list = new DisplayList();
+    final Turtle turtle = new Turtle(40, 20);
+    for (final Pen pen : new Pen[] {list, turtle}) { // [A]
+      pen.move(40, 79);
+      pen.left(90);
+      plant.record(pen, 3, 3, 90);
+      assertFalse(pen.isDown());
+      assertEquals(-90, pen.getAngle(), 1e-6);
+    }
+
+    assertEquals(list.getX(), turtle.getX(), 1e-6);
+    assertEquals(list.getY(), turtle.getY(), 1e-6);
+
+    final Canvas canvas = new Canvas(40, 20);
+    list.draw(canvas, Ansi.Color.DEFAULT);
+    assertEquals(turtle.toString(), canvas.toString());
+  }
+
+  @Test
+  public void testUnbalanced() {
+    try {
+      new LSystem("F]").record(new DisplayList(), 1, 1, 90);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.libj.console.Ansi;
+import org.libj.console.Instrumentation;
+
+public class LayersTest {
+  @After
+  public void after() {
+    Instrumentation.setListener(null);
+  }
+
+  @Test
+  public void testFlatten() {
+    final Layers layers = new Layers(4, 2);
+    final Canvas grid = layers.add(Canvas.Op.OR);
+    final Canvas series = layers.add(Canvas.Op.OR);
+    final Canvas mask = layers.add(Canvas.Op.XOR);
+    assertEquals(3, layers.size());
+    assertSame(series, layers.get(1));
+
+    grid.rectangle(0, 0, 8, 8, Ansi.Color.BLUE);
+    series.line(0, 0, 7, 7, Ansi.Color.RED);
+    mask.set(0, 0);
+    Canvas composite = layers.flatten();
+    assertNull(composite.get(0, 0));
+    assertEquals(Ansi.Color.BLUE, composite.get(0, 7));
+    assertEquals(Ansi.Color.RED, composite.get(3, 3));
+
+    series.clear();
+    series.line(0, 7, 7, 0, Ansi.Color.GREEN);
+    composite = layers.flatten();
+    assertNull(composite.get(3, 3));
+    assertEquals(Ansi.Color.GREEN, composite.get(3, 4));
+    assertEquals(Ansi.Color.BLUE, composite.get(2, 0));
+    assertEquals(composite.toString(), layers.toString());
+  }
+
+  @Test
+  public void testUnchanged() throws IOException {
+    final Layers layers = new Layers(20, 3);
+    final Canvas grid = layers.add(Canvas.Op.OR);
+    final Canvas series = layers.add(Canvas.Op.OR);
+    grid.rectangle(0, 0, 40, 12, Ansi.Color.BLUE);
+    series.line(0, 0, 39, 11, Ansi.Color.RED);
+    final String expected = layers.render(new ByteArrayOutputStream()).toString();
+
+    final Instrumentation.Counters counters = new Instrumentation.Counters();
+    Instrumentation.setListener(counters);
+    assertEquals(expected, layers.render(new ByteArrayOutputStream()).toString());
+    assertEquals(1, counters.get(Instrumentation.Source.CANVAS, Instrumentation.Metric.CALLS));
+    assertEquals(0, counters.get(Instrumentation.Source.CANVAS, Instrumentation.Metric.CELLS));
+
+    // Redrawing a pixel in another color changes only the row of its braille character
+    series.set(39, 11, Ansi.Color.GREEN);
+    layers.render(new ByteArrayOutputStream());
+    assertEquals(20, counters.get(Instrumentation.Source.CANVAS, Instrumentation.Metric.CELLS));
+    assertEquals(Ansi.Color.GREEN, layers.flatten().get(39, 11));
+  }
+}
@@ -0,0 +1,98 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class LineChartTest {
+  private static double[] series(final int len) {
+    final double[] values = new double[len];
+    for (int i = 0; i < len; ++i) // [A]
+      values[i] = Math.sin(i * 2 * Math.PI / len) * 100;
+
+    values[len / 3] = 1000;
+    return values;
+  }
+
+  private static void assertColumnsDrawn(final Canvas canvas) {
+    for (int x = 0; x < canvas.getWidth(); ++x) { // [N]
+      boolean drawn = false;
+      for (int y = 0; y < canvas.getHeight() && !drawn; ++y) // [N]
+        drawn = canvas.get(x, y) != null;
+
+      assertTrue("column " + x, drawn);
+    }
+  }
+
+  @Test
+  public void testMinMax() {
+    final Canvas canvas = new Canvas(20, 5);
+    final LineChart chart = new LineChart(canvas, LineChart.Decimation.MIN_MAX, Ansi.Color.GREEN);
+    final double[] values = series(100000);
+    chart.draw(values, 0, values.length);
+    assertEquals(1000, chart.getMax(), 0);
+    assertEquals(-100, chart.getMin(), 0.001);
+    assertColumnsDrawn(canvas);
+
+    // The peak is preserved at the top row
+    boolean peak = false;
+    for (int x = 0; x < canvas.getWidth(); ++x) // [N]
+      peak |= canvas.get(x, 0) != null;
+
+    assertTrue(peak);
+  }
+
+  @Test
+  public void testLttb() {
+    final Canvas canvas = new Canvas(20, 5);
+    final LineChart chart = new LineChart(canvas, LineChart.Decimation.LTTB, Ansi.Color.GREEN);
+    final double[] values = series(100000);
+    chart.draw(values, 0, values.length);
+    assertEquals(1000, chart.getMax(), 0);
+    assertColumnsDrawn(canvas);
+  }
+
+  @Test
+  public void testFewerValuesThanColumns() {
+    final Canvas canvas = new Canvas(10, 2);
+    final LineChart chart = new LineChart(canvas, LineChart.Decimation.LTTB, Ansi.Color.GREEN);
+    chart.draw(new double[] {0, 1}, 0, 2);
+    assertNotNull(canvas.get(0, canvas.getHeight() - 1));
+    assertNotNull(canvas.get(canvas.getWidth() - 1, 0));
+    assertColumnsDrawn(canvas);
+  }
+
+  @Test
+  public void testStream() {
+    final Canvas canvas = new Canvas(7, 4);
+    final LineChart chart = new LineChart(canvas, LineChart.Decimation.MIN_MAX, Ansi.Color.GREEN, true);
+    final double[] values = series(12345);
+    for (final double value : values) // [A]
+      chart.add(value);
+
+    assertEquals(values.length, chart.getCount());
+    assertEquals(1000, chart.getMax(), 0);
+    chart.draw();
+    assertColumnsDrawn(canvas);
+
+    chart.reset();
+    assertEquals(0, chart.getCount());
+  }
+}
@@ -0,0 +1,129 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class MipmapCanvasTest {
+  private static void assertPyramid(final MipmapCanvas canvas) {
+    for (int level = 1; level < canvas.getLevels(); ++level) { // [N]
+      final Canvas expected = canvas.getLevel(level);
+      for (int y = 0; y < expected.getHeight(); ++y) { // [N]
+        for (int x = 0; x < expected.getWidth(); ++x) { // [N]
+          boolean on = false;
+          for (int dy = 0; dy < 1 << level && !on; ++dy) // [N]
+            for (int dx = 0; dx < 1 << level && !on; ++dx) // [N]
+              on = (y << level) + dy < canvas.getHeight() && (x << level) + dx < canvas.getWidth() && canvas.get((x << level) + dx, (y << level) + dy) != null;
+
+          assertEquals("level " + level + " (" + x + "," + y + ")", on, canvas.get(level, x, y) != null);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLevels() {
+    final MipmapCanvas canvas = new MipmapCanvas(37, 11);
+    assertEquals(7, canvas.getLevels());
+    assertEquals(1, canvas.getLevel(6).width);
+    assertEquals(1, canvas.getLevel(6).height);
+    assertSame(canvas, canvas.getLevel(0));
+  }
+
+  @Test
+  public void testIncremental() {
+    final Random random = new Random(13);
+    final MipmapCanvas canvas = new MipmapCanvas(37, 11);
+    final Ansi.Color[] colors = Ansi.Color.values();
+    for (int n = 0; n < 300; ++n) { // [N]
+      final int x = random.nextInt(canvas.getWidth());
+      final int y = random.nextInt(canvas.getHeight());
+      switch (n % 5) {
+        case 0:
+          canvas.line(x, y, random.nextInt(canvas.getWidth()), random.nextInt(canvas.getHeight()), colors[random.nextInt(colors.length)]);
+          break;
+        case 1:
+          canvas.unset(x, y);
+          canvas.line(x, y, random.nextInt(canvas.getWidth()), random.nextInt(canvas.getHeight()), null);
+          break;
+        case 2:
+          canvas.fillPolygon(new int[] {x, x + 10, x - 5}, new int[] {y, y + 3, y + 12}, 0, 3, n % 2 == 0 ? null : Ansi.Color.GREEN);
+          break;
+        case 3:
+          canvas.blit(canvas, x, y, 20, 10, random.nextInt(canvas.getWidth()) & ~1, random.nextInt(canvas.getHeight()) & ~3, Canvas.Op.values()[random.nextInt(4)]);
+          break;
+        default:
+          canvas.set(x, y, Ansi.Color.RED);
+      }
+
+      if (n % 10 == 0)
+        assertPyramid(canvas);
+    }
+
+    assertPyramid(canvas);
+    canvas.clear();
+    for (int level = 0; level < canvas.getLevels(); ++level) // [N]
+      assertEquals(new Canvas(canvas.getLevel(level).width, canvas.getLevel(level).height).toString(), canvas.getLevel(level).toString());
+  }
+
+  @Test
+  public void testParallelIsSequential() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Ansi.Color[] colors = Ansi.Color.values();
+      for (int trial = 0; trial < 30; ++trial) { // [N]
+        final Random random = new Random(trial);
+        final Scene scene = new Scene();
+        for (int i = 0; i < 200; ++i) // [N]
+          scene.line(random.nextInt(160), random.nextInt(160), random.nextInt(160), random.nextInt(160), colors[random.nextInt(colors.length)]);
+
+        final MipmapCanvas sequential = new MipmapCanvas(80, 40);
+        final MipmapCanvas parallel = new MipmapCanvas(80, 40);
+        scene.draw(sequential);
+        scene.draw(parallel, pool);
+        for (int level = 0; level < sequential.getLevels(); ++level) // [N]
+          assertEquals("level " + level, sequential.getLevel(level).toString(), parallel.getLevel(level).toString());
+
+        assertPyramid(parallel);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testColorAndRender() throws IOException {
+    final MipmapCanvas canvas = new MipmapCanvas(8, 4);
+    canvas.set(15, 15, Ansi.Color.BLUE);
+    assertEquals(Ansi.Color.BLUE, canvas.get(3, 1, 1));
+    canvas.set(15, 15, Ansi.Color.RED);
+    assertEquals(Ansi.Color.RED, canvas.get(3, 1, 1));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    canvas.render(1, 0, 0, 4, 2, out);
+    assertEquals(canvas.getLevel(1).toString(), out.toString());
+  }
+}
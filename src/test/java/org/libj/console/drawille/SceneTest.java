@@ -0,0 +1,95 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class SceneTest {
+  private static final Ansi.Color[] colors = Ansi.Color.values();
+
+  private static Scene scene(final int size, final int width, final int height) {
+    final Random random = new Random(size);
+    final Scene scene = new Scene();
+    for (int i = 0; i < size; ++i) { // [N]
+      final Ansi.Color color = i % 10 == 0 ? null : colors[random.nextInt(colors.length)];
+      final int x = random.nextInt(width + 20) - 10;
+      final int y = random.nextInt(height + 20) - 10;
+      switch (i % 5) {
+        case 0:
+          scene.point(x, y, color);
+          break;
+        case 1:
+          scene.circle(x, y, random.nextInt(30), color);
+          break;
+        case 2:
+          scene.ellipse(x, y, random.nextInt(30), random.nextInt(30), color);
+          break;
+        case 3:
+          scene.rectangle(x, y, random.nextInt(30), random.nextInt(30), color);
+          break;
+        default:
+          scene.line(x, y, random.nextInt(width + 20) - 10, random.nextInt(height + 20) - 10, color);
+      }
+    }
+
+    return scene;
+  }
+
+  @Test
+  public void testParallelDrawIsIdentical() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Scene scene = scene(5000, 160, 120);
+      assertTrue(scene.size() > 5000);
+      final Canvas sequential = new Canvas(80, 30);
+      final Canvas parallel = new Canvas(80, 30);
+      scene.draw(sequential);
+      scene.draw(parallel, pool);
+      assertArrayEquals(sequential.masks, parallel.masks);
+      assertArrayEquals(sequential.colors, parallel.colors);
+
+      scene.clear();
+      assertEquals(0, scene.size());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelRenderIsIdentical() throws IOException {
+    final ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      final Canvas canvas = new Canvas(50, 17);
+      scene(500, 100, 68).draw(canvas);
+      final ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+      canvas.render(parallel, pool);
+      assertEquals(canvas.toString(), parallel.toString());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class ScrollingCanvasTest {
+  @Test
+  public void testScrollLeft() {
+    final ScrollingCanvas scrolling = new ScrollingCanvas(5, 1);
+    final Canvas expected = new Canvas(5, 1);
+    final int[] ys = new int[40];
+    for (int t = 0; t < ys.length; ++t) // [N]
+      ys[t] = (int)Math.round(1.5 + 1.5 * Math.sin(t));
+
+    // Roll a series through the canvas, appending 1 braille column (2 pixels) per tick
+    for (int t = 1; t < ys.length; ++t) { // [N]
+      scrolling.scrollLeft(1);
+      scrolling.line(7, ys[t - 1], 9, ys[t], Ansi.Color.GREEN);
+
+      expected.clear();
+      for (int s = Math.max(1, t - 4); s <= t; ++s) // [N]
+        expected.line(9 - 2 * (t - s) - 2, ys[s - 1], 9 - 2 * (t - s), ys[s], Ansi.Color.GREEN);
+
+      // The leftmost column of the reference includes the tail of an earlier segment
+      expected.blit(new Canvas(1, 1), 0, 0, 2, 4, 0, 0, Canvas.Op.REPLACE);
+      scrolling.blit(new Canvas(1, 1), 0, 0, 2, 4, 0, 0, Canvas.Op.REPLACE);
+      assertEquals(expected.toString(), scrolling.toString());
+      assertEquals(expected.toString(), scrolling.copy().toString());
+    }
+  }
+
+  @Test
+  public void testCoordinates() {
+    final ScrollingCanvas canvas = new ScrollingCanvas(3, 1);
+    canvas.set(5, 0, Ansi.Color.RED);
+    canvas.scrollLeft(1);
+    assertEquals(Ansi.Color.RED, canvas.get(3, 0));
+    assertNull(canvas.get(5, 0));
+    canvas.set(5, 3, Ansi.Color.BLUE);
+    canvas.scrollLeft(2);
+    assertEquals(Ansi.Color.BLUE, canvas.get(1, 3));
+    assertNull(canvas.get(3, 0));
+    canvas.scrollLeft(3);
+    assertNull(canvas.get(1, 3));
+
+    try {
+      canvas.scrollLeft(-1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
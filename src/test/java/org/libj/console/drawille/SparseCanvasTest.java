@@ -0,0 +1,142 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.console.drawille;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.libj.console.Ansi;
+
+public class SparseCanvasTest {
+  private static void draw(final Canvas canvas, final int dx, final int dy) {
+    final Random random = new Random(11);
+    final Ansi.Color[] colors = Ansi.Color.values();
+    for (int i = 0; i < 200; ++i) // [N]
+      canvas.line(dx + random.nextInt(400), dy + random.nextInt(200), dx + random.nextInt(400), dy + random.nextInt(200), colors[random.nextInt(colors.length)]);
+
+    canvas.circle(dx + 200, dy + 100, 90, Ansi.Color.RED);
+    canvas.fillPolygon(new int[] {dx + 10, dx + 150, dx + 60}, new int[] {dy + 10, dy + 40, dy + 190}, 0, 3, Ansi.Color.BLUE);
+    for (int i = 0; i < 100; ++i) // [N]
+      canvas.unset(dx + random.nextInt(400), dy + random.nextInt(200));
+  }
+
+  @Test
+  public void testEquivalence() {
+    final Canvas expected = new Canvas(200, 50);
+    final SparseCanvas actual = new SparseCanvas(200, 50);
+    draw(expected, 0, 0);
+    draw(actual, 0, 0);
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(expected.toString(), actual.copy().toString());
+
+    final Canvas blitted = new Canvas(200, 50);
+    blitted.blit(actual, 0, 0, 400, 200, 0, 0, Canvas.Op.REPLACE);
+    assertEquals(expected.toString(), blitted.toString());
+  }
+
+  @Test
+  public void testViewport() throws IOException {
+    final SparseCanvas sparse = new SparseCanvas(50000, 2500);
+    draw(sparse, 70002, 6004);
+    assertTrue(sparse.getTileCount() <= 25);
+
+    final Canvas expected = new Canvas(220, 60);
+    draw(expected, 20, 20);
+
+    final Canvas viewport = new Canvas(220, 60);
+    sparse.viewport(34991, 1496, viewport);
+    assertEquals(expected.toString(), viewport.toString());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    sparse.render(34991, 1496, 220, 60, out);
+    assertEquals(expected.toString(), out.toString());
+
+    sparse.set(99999, 9999);
+    final ByteArrayOutputStream corner = new ByteArrayOutputStream();
+    sparse.render(49999, 2499, 2, 2, corner);
+    final Canvas edge = new Canvas(2, 2);
+    edge.set(1, 3);
+    assertEquals(edge.toString(), corner.toString());
+  }
+
+  @Test
+  public void testParallelIsSequential() throws IOException {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final Ansi.Color[] colors = Ansi.Color.values();
+      for (int trial = 0; trial < 30; ++trial) { // [N]
+        final Random random = new Random(trial);
+        final Scene scene = new Scene();
+        for (int i = 0; i < 300; ++i) // [N]
+          scene.line(random.nextInt(400), random.nextInt(400), random.nextInt(400), random.nextInt(400), colors[random.nextInt(colors.length)]);
+
+        final SparseCanvas sequential = new SparseCanvas(200, 100);
+        final SparseCanvas parallel = new SparseCanvas(200, 100);
+        scene.draw(sequential);
+        scene.draw(parallel, pool);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parallel.render(out, pool);
+        assertEquals(sequential.toString(), out.toString());
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testClear() {
+    final SparseCanvas canvas = new SparseCanvas(1000, 1000);
+    for (int i = 0; i < 1000; ++i) // [N]
+      canvas.set(i * 2, i * 4);
+
+    assertEquals(1000 / SparseCanvas.TILE_HEIGHT + 1, canvas.getTileCount());
+    assertNotNull(canvas.get(10, 20));
+    canvas.unset(0, 0);
+    assertNull(canvas.get(0, 0));
+    canvas.clear();
+    assertEquals(0, canvas.getTileCount());
+    assertNull(canvas.get(10, 20));
+  }
+
+  @Test
+  public void testIllegalDimensions() {
+    try {
+      new SparseCanvas(100000, 100000);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new SparseCanvas(65536, 32768);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final SparseCanvas canvas = new SparseCanvas(65536, 32767);
+    canvas.set(131071, 131067, Ansi.Color.RED);
+    assertEquals(Ansi.Color.RED, canvas.get(131071, 131067));
+    assertEquals(1, canvas.getTileCount());
+  }
+}